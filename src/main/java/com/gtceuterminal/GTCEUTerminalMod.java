@@ -5,6 +5,7 @@ import com.gtceuterminal.common.config.*;
 import com.gtceuterminal.common.data.GTCEUTerminalItems;
 import com.gtceuterminal.common.data.GTCEUTerminalTabs;
 import com.gtceuterminal.common.network.TerminalNetwork;
+import com.gtceuterminal.common.upgrade.ComponentUpgradeGraph;
 import com.gtceuterminal.client.gui.factory.MultiStructureUIFactory;
 import com.gtceuterminal.client.gui.factory.DismantlerUIFactory;
 
@@ -79,6 +80,9 @@ public class GTCEUTerminalMod {
 
             MaintenanceHatchConfig.initialize();
 
+            ComponentUpgradeGraph.rebuild();
+            ConfigWatcher.start();
+
             LOGGER.info("All component configurations initialized successfully");
 
             LOGGER.info("Initializing AE2 integration...");
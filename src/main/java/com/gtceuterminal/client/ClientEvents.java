@@ -1,7 +1,8 @@
 package com.gtceuterminal.client;
 
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.client.renderer.BakedBuffers;
 import com.gtceuterminal.client.renderer.SchematicPreviewRenderer;
-import com.gtceuterminal.common.data.SchematicData;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
@@ -9,8 +10,11 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
 import net.minecraftforge.client.event.RenderLevelStageEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -44,16 +48,7 @@ public class ClientEvents {
         }
 
         try {
-            SchematicData clipboard = SchematicData.fromNBT(
-                    tag.getCompound("Clipboard"),
-                    minecraft.level.registryAccess()
-            );
-
-            if (clipboard.getBlocks().isEmpty()) {
-                return;
-            }
-
-            // Setup rendering
+            // Decoding and tessellation are cached by the renderer, only the baked buffers are drawn here
             PoseStack poseStack = event.getPoseStack();
             MultiBufferSource.BufferSource bufferSource = minecraft.renderBuffers().bufferSource();
 
@@ -64,8 +59,8 @@ public class ClientEvents {
             RenderSystem.defaultBlendFunc();
             RenderSystem.setShaderColor(1f, 1f, 1f, 1f); // 50% transparent
 
-            // Render ghost blocks with clipboard tag for original facing
-            SchematicPreviewRenderer.renderGhostBlocks(poseStack, bufferSource, clipboard, minecraft, tag.getCompound("Clipboard"));
+            SchematicPreviewRenderer.renderGhostBlocks(poseStack, bufferSource, tag.getCompound("Clipboard"), minecraft,
+                    event.getFrustum());
 
             bufferSource.endBatch();
 
@@ -79,4 +74,23 @@ public class ClientEvents {
             
         }
     }
-}
\ No newline at end of file
+
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        // Baked ghost buffers belong to the old session
+        SchematicPreviewRenderer.clearCache();
+    }
+
+    @Mod.EventBusSubscriber(modid = GTCEUTerminalMod.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.MOD)
+    public static class ModBusEvents {
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            // Baked meshes hold models and textures from the old resources, rebake on next render
+            event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> {
+                SchematicPreviewRenderer.clearCache();
+                BakedBuffers.clear();
+            });
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.gtceuterminal.client;
+
+import com.gtceuterminal.client.highlight.MultiblockHighlighter;
+import com.gtceuterminal.common.material.ClientMaterialAvailability;
+import com.gtceuterminal.common.material.MaterialAvailability;
+import com.gtceuterminal.common.multiblock.BlockMask;
+
+import net.minecraft.core.BlockPos;
+
+import java.util.List;
+
+/**
+ * Client-side ends of server → client packets
+ * Packets reach these through DistExecutor, so the packet classes themselves never load client
+ * classes on a dedicated server
+ */
+public class ClientPacketHandlers {
+
+    public static void handleMultiblockHighlight(BlockPos controllerPos, BlockMask mask, int color, int durationMs) {
+        MultiblockHighlighter.show(controllerPos, mask, color, durationMs);
+    }
+
+    public static void handleMaterialAvailability(int key, long resultHash, List<MaterialAvailability> availability) {
+        ClientMaterialAvailability.accept(key, resultHash, availability);
+    }
+}
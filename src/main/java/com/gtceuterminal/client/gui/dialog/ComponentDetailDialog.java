@@ -61,11 +61,7 @@ public class ComponentDetailDialog extends DialogWidget {
     @Override
     public void close() {
         // Close any upgrade dialogs that may be open alongside this detail dialog.
-        for (Widget widget : new ArrayList<>(parent.widgets)) {
-            if (widget instanceof ComponentUpgradeDialog) {
-                ((ComponentUpgradeDialog) widget).close();
-            }
-        }
+        closeUpgradeDialogs();
         super.close();
         if (onClose != null) {
             onClose.run();
@@ -150,6 +146,23 @@ public class ComponentDetailDialog extends DialogWidget {
         countLabel.setTextColor(COLOR_TEXT_WHITE);
         infoPanel.addWidget(countLabel);
 
+        ButtonWidget upgradeAllBtn = new ButtonWidget(
+                DIALOG_WIDTH - 120, 26, 90, 16,
+                new GuiTextureGroup(
+                        new ColorRectTexture(0xFF2E7D32),
+                        new ColorBorderTexture(1, COLOR_SUCCESS)
+                ),
+                cd -> openMultiblockUpgradeDialog()
+        );
+        upgradeAllBtn.setButtonTexture(new TextTexture("§a§lUpgrade All")
+                .setWidth(85)
+                .setType(TextTexture.TextType.NORMAL));
+        upgradeAllBtn.setHoverTexture(new GuiTextureGroup(
+                new ColorRectTexture(0xFF43A047),
+                new ColorBorderTexture(1, COLOR_TEXT_WHITE)
+        ));
+        infoPanel.addWidget(upgradeAllBtn);
+
         return infoPanel;
     }
 
@@ -268,14 +281,25 @@ public class ComponentDetailDialog extends DialogWidget {
         return closeBtn;
     }
 
-    private void openUpgradeDialog(ComponentGroup group) {
-        GTCEUTerminalMod.LOGGER.info("Opening upgrade dialog for group: {}", group.getType());
-
+    private void closeUpgradeDialogs() {
         for (Widget widget : new ArrayList<>(parent.widgets)) {
             if (widget instanceof ComponentUpgradeDialog) {
                 ((ComponentUpgradeDialog) widget).close();
+            } else if (widget instanceof MultiblockUpgradeDialog) {
+                ((MultiblockUpgradeDialog) widget).close();
             }
         }
+    }
+
+    private void openMultiblockUpgradeDialog() {
+        closeUpgradeDialogs();
+        new MultiblockUpgradeDialog(parent, this, multiblock, player);
+    }
+
+    private void openUpgradeDialog(ComponentGroup group) {
+        GTCEUTerminalMod.LOGGER.info("Opening upgrade dialog for group: {}", group.getType());
+
+        closeUpgradeDialogs();
 
         new ComponentUpgradeDialog(
                 parent,
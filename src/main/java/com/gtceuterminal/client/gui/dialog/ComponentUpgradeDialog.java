@@ -1,6 +1,7 @@
 package com.gtceuterminal.client.gui.dialog;
 
 import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.material.ClientMaterialAvailability;
 import com.gtceuterminal.client.gui.multiblock.ComponentDetailUI;
 import com.gtceuterminal.client.gui.widget.LDLMaterialListWidget;
 import com.gtceuterminal.common.material.ComponentUpgradeHelper;
@@ -50,7 +51,9 @@ public class ComponentUpgradeDialog extends DialogWidget {
 
     private int selectedTier = -1;
     private List<MaterialAvailability> materials;
+    private Map<Item, Integer> requiredMaterials;
     private boolean hasEnough = false;
+    private int seenAvailabilityVersion = -1;
 
     private WidgetGroup tierSelectionPanel;
     private WidgetGroup materialsPanel;
@@ -254,6 +257,9 @@ public class ComponentUpgradeDialog extends DialogWidget {
             totalRequired.put(entry.getKey(), entry.getValue() * group.getCount());
         }
 
+        requiredMaterials = totalRequired;
+        seenAvailabilityVersion = ClientMaterialAvailability.getVersion(requiredMaterials);
+
         // Creative
         if (player.isCreative()) {
             materials = MaterialCalculator.checkMaterialsAvailability(
@@ -270,6 +276,19 @@ public class ComponentUpgradeDialog extends DialogWidget {
         hasEnough = MaterialCalculator.hasEnoughMaterials(materials);
     }
 
+    // Pick up the server's availability answers while the dialog is open
+    @Override
+    public void updateScreen() {
+        super.updateScreen();
+        if (requiredMaterials == null || player.isCreative()) return;
+
+        ClientMaterialAvailability.get(requiredMaterials);
+        if (seenAvailabilityVersion != ClientMaterialAvailability.getVersion(requiredMaterials)) {
+            calculateMaterials();
+            refreshMaterialsPanel();
+        }
+    }
+
     private WidgetGroup createMaterialsPanel() {
         WidgetGroup panel = new WidgetGroup(10, 149, DIALOG_WIDTH - 20, 156);
 
@@ -394,15 +413,9 @@ public class ComponentUpgradeDialog extends DialogWidget {
     }
 
     private void performUpgrade() {
-        for (ComponentInfo component : group.getComponents()) {
-            TerminalNetwork.CHANNEL.sendToServer(
-                    new CPacketComponentUpgrade(
-                            component.getPosition(),
-                            selectedTier,
-                            multiblock.getControllerPos()
-                    )
-            );
-        }
+        TerminalNetwork.CHANNEL.sendToServer(
+                new CPacketComponentUpgrade(group.getPositions(), selectedTier, multiblock != null ? multiblock.getControllerPos() : null)
+        );
 
         player.displayClientMessage(
                 Component.literal("§aChanging " + group.getCount() + " components..."),
@@ -1,5 +1,6 @@
 package com.gtceuterminal.client.gui.dialog;
 
+import com.gtceuterminal.common.material.ClientMaterialAvailability;
 import com.gtceuterminal.common.material.ComponentUpgradeHelper;
 import com.gtceuterminal.common.material.MaterialAvailability;
 import com.gtceuterminal.common.material.MaterialCalculator;
@@ -54,7 +55,9 @@ public class GroupUpgradeDialog extends DialogWidget {
     private final Runnable onClose;
     
     private List<MaterialAvailability> materials;
+    private Map<Item, Integer> requiredMaterials;
     private boolean hasEnough;
+    private int seenAvailabilityVersion = -1;
     
     public GroupUpgradeDialog(
         WidgetGroup parent,
@@ -125,6 +128,9 @@ public class GroupUpgradeDialog extends DialogWidget {
                 totalRequired.put(entry.getKey(), entry.getValue() * group.getCount());
             }
             
+            requiredMaterials = totalRequired;
+            seenAvailabilityVersion = ClientMaterialAvailability.getVersion(requiredMaterials);
+
             if (isCreative) {
                 materials = new ArrayList<>();
                 hasEnough = true;
@@ -139,6 +145,19 @@ public class GroupUpgradeDialog extends DialogWidget {
         }
     }
     
+    // Rebuild with the server's availability answer once it arrives
+    @Override
+    public void updateScreen() {
+        super.updateScreen();
+        if (requiredMaterials == null || player.isCreative()) return;
+
+        ClientMaterialAvailability.get(requiredMaterials);
+        if (seenAvailabilityVersion != ClientMaterialAvailability.getVersion(requiredMaterials)) {
+            clearAllWidgets();
+            initDialog();
+        }
+    }
+    
     private WidgetGroup createHeader() {
         WidgetGroup header = new WidgetGroup(2, 2, DIALOG_WIDTH - 4, 28);
         header.setBackground(new ColorRectTexture(COLOR_BG_MEDIUM));
@@ -292,7 +311,7 @@ public class GroupUpgradeDialog extends DialogWidget {
         }
         
         TerminalNetwork.CHANNEL.sendToServer(
-                new CPacketComponentUpgrade(positions, targetTier)
+                new CPacketComponentUpgrade(positions, targetTier, multiblock != null ? multiblock.getControllerPos() : null)
         );
         
         if (onSuccess != null) {
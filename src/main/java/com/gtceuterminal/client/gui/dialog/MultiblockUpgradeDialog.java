@@ -0,0 +1,320 @@
+package com.gtceuterminal.client.gui.dialog;
+
+import com.gtceuterminal.common.material.ClientMaterialAvailability;
+import com.gtceuterminal.client.gui.widget.LDLMaterialListWidget;
+import com.gtceuterminal.common.material.MaterialAvailability;
+import com.gtceuterminal.common.material.MaterialCalculator;
+import com.gtceuterminal.common.multiblock.MultiblockInfo;
+import com.gtceuterminal.common.network.CPacketMultiblockUpgrade;
+import com.gtceuterminal.common.network.TerminalNetwork;
+import com.gtceuterminal.common.upgrade.MultiblockUpgradePlan;
+
+import com.lowdragmc.lowdraglib.gui.texture.ColorBorderTexture;
+import com.lowdragmc.lowdraglib.gui.texture.ColorRectTexture;
+import com.lowdragmc.lowdraglib.gui.texture.GuiTextureGroup;
+import com.lowdragmc.lowdraglib.gui.texture.TextTexture;
+import com.lowdragmc.lowdraglib.gui.widget.*;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Upgrade every part of a multiblock to one voltage tier, with a cost and before/after preview
+public class MultiblockUpgradeDialog extends DialogWidget {
+
+    private static final int DIALOG_WIDTH = 400;
+    private static final int DIALOG_HEIGHT = 350;
+    private static final int DIALOG_SPACING = 10;
+
+    private static final int COLOR_BG_DARK = 0xFF1A1A1A;
+    private static final int COLOR_BG_MEDIUM = 0xFF2B2B2B;
+    private static final int COLOR_BG_LIGHT = 0xFF3F3F3F;
+    private static final int COLOR_BORDER_LIGHT = 0xFF5A5A5A;
+    private static final int COLOR_BORDER_DARK = 0xFF0A0A0A;
+    private static final int COLOR_TEXT_WHITE = 0xFFFFFFFF;
+    private static final int COLOR_TEXT_GRAY = 0xFFAAAAAA;
+    private static final int COLOR_SUCCESS = 0xFF00FF00;
+    private static final int COLOR_ERROR = 0xFFFF0000;
+
+    private final ComponentDetailDialog parentDialog;
+    private final MultiblockInfo multiblock;
+    private final Player player;
+
+    private int selectedTier = -1;
+    private MultiblockUpgradePlan plan;
+    private List<MaterialAvailability> materials = new ArrayList<>();
+    private boolean hasEnough = false;
+    private int seenAvailabilityVersion = -1;
+
+    public MultiblockUpgradeDialog(WidgetGroup parent,
+                                   ComponentDetailDialog parentDialog,
+                                   MultiblockInfo multiblock,
+                                   Player player) {
+        super(parent, true);
+        this.parentDialog = parentDialog;
+        this.multiblock = multiblock;
+        this.player = player;
+
+        initDialog();
+    }
+
+    private void initDialog() {
+        int totalWidth = DIALOG_WIDTH + DIALOG_SPACING + 400;
+        int leftX = (parent.getSize().width - totalWidth) / 2;
+        int centerY = (parent.getSize().height - DIALOG_HEIGHT) / 2;
+
+        setSize(new com.lowdragmc.lowdraglib.utils.Size(DIALOG_WIDTH, DIALOG_HEIGHT));
+        setSelfPosition(new com.lowdragmc.lowdraglib.utils.Position(leftX, centerY));
+
+        setBackground(new ColorRectTexture(COLOR_BG_DARK));
+
+        // Borders
+        addWidget(new ImageWidget(0, 0, DIALOG_WIDTH, 2, new ColorRectTexture(COLOR_BORDER_LIGHT)));
+        addWidget(new ImageWidget(0, 0, 2, DIALOG_HEIGHT, new ColorRectTexture(COLOR_BORDER_LIGHT)));
+        addWidget(new ImageWidget(DIALOG_WIDTH - 2, 0, 2, DIALOG_HEIGHT, new ColorRectTexture(COLOR_BORDER_DARK)));
+        addWidget(new ImageWidget(0, DIALOG_HEIGHT - 2, DIALOG_WIDTH, 2, new ColorRectTexture(COLOR_BORDER_DARK)));
+
+        addWidget(createHeader());
+        addWidget(createTierSelection());
+        addWidget(createPreviewPanel());
+        addWidget(createMaterialsPanel());
+        addWidget(createButtons());
+    }
+
+    private void selectTier(int tier) {
+        selectedTier = tier;
+        calculatePlan();
+        clearAllWidgets();
+        initDialog();
+    }
+
+    private void calculatePlan() {
+        if (selectedTier == -1) return;
+
+        plan = MultiblockUpgradePlan.create(multiblock.getComponents(), selectedTier);
+        seenAvailabilityVersion = ClientMaterialAvailability.getVersion(plan.getRequiredMaterials());
+
+        if (plan.isEmpty()) {
+            materials = new ArrayList<>();
+            hasEnough = false;
+            return;
+        }
+
+        materials = MaterialCalculator.checkMaterialsAvailability(plan.getRequiredMaterials(), player, player.level());
+        hasEnough = player.isCreative() || MaterialCalculator.hasEnoughMaterials(materials);
+    }
+
+    // Rebuild with the server's availability answer once it arrives
+    @Override
+    public void updateScreen() {
+        super.updateScreen();
+        if (plan == null || plan.isEmpty() || player.isCreative()) return;
+
+        ClientMaterialAvailability.get(plan.getRequiredMaterials());
+        if (seenAvailabilityVersion != ClientMaterialAvailability.getVersion(plan.getRequiredMaterials())) {
+            calculatePlan();
+            clearAllWidgets();
+            initDialog();
+        }
+    }
+
+    private WidgetGroup createHeader() {
+        WidgetGroup header = new WidgetGroup(2, 2, DIALOG_WIDTH - 4, 24);
+        header.setBackground(new ColorRectTexture(COLOR_BG_MEDIUM));
+
+        LabelWidget titleLabel = new LabelWidget(10, 7, "§l§fUpgrade Whole Multiblock");
+        titleLabel.setTextColor(COLOR_TEXT_WHITE);
+        header.addWidget(titleLabel);
+
+        return header;
+    }
+
+    private WidgetGroup createTierSelection() {
+        WidgetGroup panel = new WidgetGroup(10, 30, DIALOG_WIDTH - 20, 75);
+        panel.setBackground(new ColorRectTexture(COLOR_BG_MEDIUM));
+
+        LabelWidget label = new LabelWidget(10, 4, "§l§7Target Voltage:");
+        label.setTextColor(COLOR_TEXT_WHITE);
+        panel.addWidget(label);
+
+        DraggableScrollableWidgetGroup scroll = new DraggableScrollableWidgetGroup(
+                10, 18, (DIALOG_WIDTH - 20) - 20, 55
+        );
+        panel.addWidget(scroll);
+
+        int btnWidth = 48;
+        int btnHeight = 24;
+        int spacing = 3;
+        int buttonsPerRow = 7;
+
+        String[] vn = com.gregtechceu.gtceu.api.GTValues.VN;
+        for (int tier = 1; tier < vn.length; tier++) {
+            int index = tier - 1;
+            int x = (index % buttonsPerRow) * (btnWidth + spacing);
+            int y = (index / buttonsPerRow) * (btnHeight + spacing);
+            scroll.addWidget(createTierButton(tier, vn[tier], x, y, btnWidth, btnHeight));
+        }
+
+        return panel;
+    }
+
+    private ButtonWidget createTierButton(int tier, String tierName, int x, int y, int width, int height) {
+        boolean isSelected = tier == selectedTier;
+
+        ButtonWidget btn = new ButtonWidget(
+                x, y, width, height,
+                new GuiTextureGroup(
+                        new ColorRectTexture(isSelected ? COLOR_SUCCESS : COLOR_BG_LIGHT),
+                        new ColorBorderTexture(1, isSelected ? COLOR_SUCCESS : COLOR_BORDER_LIGHT)
+                ),
+                cd -> selectTier(tier)
+        );
+
+        btn.setButtonTexture(new TextTexture("§f" + tierName)
+                .setWidth(width)
+                .setType(TextTexture.TextType.NORMAL));
+
+        btn.setHoverTexture(new GuiTextureGroup(
+                new ColorRectTexture(isSelected ? COLOR_SUCCESS : COLOR_BG_LIGHT),
+                new ColorBorderTexture(1, COLOR_TEXT_WHITE)
+        ));
+
+        return btn;
+    }
+
+    // Per-type tier changes plus the stats the player actually cares about
+    private WidgetGroup createPreviewPanel() {
+        WidgetGroup panel = new WidgetGroup(10, 109, DIALOG_WIDTH - 20, 90);
+        panel.setBackground(new ColorRectTexture(COLOR_BG_MEDIUM));
+
+        LabelWidget label = new LabelWidget(5, 4, "§l§7Changes:");
+        label.setTextColor(COLOR_TEXT_WHITE);
+        panel.addWidget(label);
+
+        if (plan == null) {
+            panel.addWidget(new LabelWidget(5, 40, "§7Select a tier to see the plan"));
+            return panel;
+        }
+        if (plan.isEmpty()) {
+            panel.addWidget(new LabelWidget(5, 40, "§7Every part is already at or above this tier"));
+            return panel;
+        }
+
+        DraggableScrollableWidgetGroup scroll = new DraggableScrollableWidgetGroup(5, 16, DIALOG_WIDTH - 30, 72);
+        scroll.setYScrollBarWidth(6);
+        scroll.setYBarStyle(
+                new ColorRectTexture(COLOR_BORDER_DARK),
+                new ColorRectTexture(COLOR_BORDER_LIGHT)
+        );
+        panel.addWidget(scroll);
+
+        int yPos = 0;
+        if (plan.getEnergyVoltageBefore() >= 0) {
+            scroll.addWidget(new LabelWidget(0, yPos, "§7Energy: §f" + plan.getEnergyVoltageBefore()
+                    + " §7→ §a" + plan.getEnergyVoltageAfter() + " §7EU/t per amp"));
+            yPos += 11;
+        }
+        if (plan.getCoilTemperatureBefore() >= 0) {
+            scroll.addWidget(new LabelWidget(0, yPos, "§7Coil temperature: §f" + plan.getCoilTemperatureBefore()
+                    + "K §7→ §a" + plan.getCoilTemperatureAfter() + "K"));
+            yPos += 11;
+        }
+
+        for (MultiblockUpgradePlan.TypeChange change : plan.getChanges()) {
+            if (change.getUpgraded() == 0) continue;
+
+            String text = "§f" + change.getType().getDisplayName() + " §7x" + change.getUpgraded() + ": §f"
+                    + MultiblockUpgradePlan.getTierName(change.getType(), change.getLowestBefore()) + " §7→ §a"
+                    + MultiblockUpgradePlan.getTierName(change.getType(), change.getLowestAfter());
+            scroll.addWidget(new LabelWidget(0, yPos, text));
+            yPos += 11;
+        }
+
+        return panel;
+    }
+
+    private WidgetGroup createMaterialsPanel() {
+        WidgetGroup panel = new WidgetGroup(10, 203, DIALOG_WIDTH - 20, 108);
+
+        LabelWidget label = new LabelWidget(5, 4, "§l§7Required Materials:");
+        label.setTextColor(COLOR_TEXT_WHITE);
+        panel.addWidget(label);
+
+        if (player.isCreative()) {
+            LabelWidget creativeNote = new LabelWidget(5, 16, "§a[Creative Mode - Not Required]");
+            creativeNote.setTextColor(COLOR_SUCCESS);
+            panel.addWidget(creativeNote);
+        }
+
+        if (!materials.isEmpty()) {
+            int yOffset = player.isCreative() ? 30 : 18;
+            panel.addWidget(new LDLMaterialListWidget(5, yOffset, DIALOG_WIDTH - 30, 108 - yOffset, materials));
+        }
+
+        return panel;
+    }
+
+    private WidgetGroup createButtons() {
+        WidgetGroup buttonPanel = new WidgetGroup(10, DIALOG_HEIGHT - 32, DIALOG_WIDTH - 20, 28);
+
+        boolean canConfirm = plan != null && !plan.isEmpty() && hasEnough;
+        String btnText = plan == null || plan.isEmpty()
+                ? "§7Upgrade All"
+                : (canConfirm ? "§a" : "§e") + "Upgrade All (" + plan.getSteps().size() + ")";
+
+        ButtonWidget confirmButton = new ButtonWidget(
+                0, 3, 180, 20,
+                new GuiTextureGroup(
+                        new ColorRectTexture(canConfirm ? COLOR_SUCCESS : COLOR_ERROR),
+                        new ColorBorderTexture(1, COLOR_BORDER_LIGHT)
+                ),
+                cd -> {
+                    if (canConfirm) {
+                        performUpgrade();
+                    }
+                }
+        );
+        confirmButton.setButtonTexture(new TextTexture(btnText)
+                .setWidth(180)
+                .setType(TextTexture.TextType.NORMAL));
+        confirmButton.setActive(plan != null && !plan.isEmpty());
+        buttonPanel.addWidget(confirmButton);
+
+        ButtonWidget cancelBtn = new ButtonWidget(
+                190, 3, 180, 20,
+                new GuiTextureGroup(
+                        new ColorRectTexture(COLOR_BG_MEDIUM),
+                        new ColorBorderTexture(1, COLOR_BORDER_LIGHT)
+                ),
+                cd -> close()
+        );
+        cancelBtn.setButtonTexture(new TextTexture("Cancel")
+                .setWidth(180)
+                .setType(TextTexture.TextType.NORMAL));
+        cancelBtn.setHoverTexture(new GuiTextureGroup(
+                new ColorRectTexture(COLOR_BG_MEDIUM),
+                new ColorBorderTexture(1, COLOR_TEXT_WHITE)
+        ));
+        buttonPanel.addWidget(cancelBtn);
+
+        return buttonPanel;
+    }
+
+    private void performUpgrade() {
+        TerminalNetwork.CHANNEL.sendToServer(
+                new CPacketMultiblockUpgrade(multiblock.getControllerPos(), selectedTier)
+        );
+
+        player.displayClientMessage(
+                Component.literal("§aUpgrading " + plan.getSteps().size() + " components..."),
+                true
+        );
+
+        super.close();
+        if (parentDialog != null) {
+            parentDialog.close();
+        }
+    }
+}
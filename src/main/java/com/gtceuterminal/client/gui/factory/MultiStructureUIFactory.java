@@ -1,6 +1,7 @@
 package com.gtceuterminal.client.gui.factory;
 
 import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.multiblock.MultiblockModel;
 
 import com.lowdragmc.lowdraglib.gui.factory.UIFactory;
 import com.lowdragmc.lowdraglib.gui.modular.IUIHolder;
@@ -53,12 +54,15 @@ public class MultiStructureUIFactory extends UIFactory<MultiStructureUIFactory.M
 
     @Override
     protected MultiStructureHolder readHolderFromSyncData(FriendlyByteBuf syncData) {
-        return new MultiStructureHolder(true);
+        MultiStructureHolder holder = new MultiStructureHolder(true);
+        holder.model = MultiblockModel.readFull(syncData);
+        return holder;
     }
 
     @Override
     protected void writeHolderToSyncData(FriendlyByteBuf syncData, MultiStructureHolder holder) {
-        // No data to write
+        // The server's scan, the client never scans on its own
+        holder.getModel().writeFull(syncData);
     }
 
 
@@ -77,6 +81,7 @@ public class MultiStructureUIFactory extends UIFactory<MultiStructureUIFactory.M
     public static class MultiStructureHolder implements IUIHolder {
         private final boolean remote;
         private Player player;
+        private MultiblockModel model;
 
         public MultiStructureHolder(boolean remote) {
             this.remote = remote;
@@ -92,6 +97,14 @@ public class MultiStructureUIFactory extends UIFactory<MultiStructureUIFactory.M
             return player;
         }
 
+        // Server: scanned on first use. Client: the snapshot the server sent
+        public MultiblockModel getModel() {
+            if (model == null) {
+                model = remote || player == null ? new MultiblockModel() : MultiblockModel.scan(player);
+            }
+            return model;
+        }
+
         @Override
         public ModularUI createUI(Player entityPlayer) {
             attach(entityPlayer);
@@ -19,7 +19,7 @@ public class ManagerSettingsUI {
 
     private static final int GUI_WIDTH = 200;
     // Smaller UI: removed Increase Radius option
-    private static final int GUI_HEIGHT = 110;
+    private static final int GUI_HEIGHT = 140;
 
     // GTCEu Colors
     private static final int COLOR_BG_DARK = 0xFF1A1A1A;
@@ -118,6 +118,28 @@ public class ManagerSettingsUI {
         tierHint.setTextColor(0xFF666666);
         panel.addWidget(tierHint);
 
+        yPos += 30;
+
+        // ═══════════════════════════════════════════════════════════════
+        // 3. Auto-Craft Missing (request missing upgrade materials from ME autocrafting)
+        // ═══════════════════════════════════════════════════════════════
+        LabelWidget craftLabel = new LabelWidget(8, yPos, "§7Auto-Craft Missing");
+        panel.addWidget(craftLabel);
+
+        ButtonWidget craftToggle = new ButtonWidget(GUI_WIDTH - 70, yPos - 2, 50, 16,
+                new ColorRectTexture(COLOR_BG_DARK),
+                cd -> toggleAutoCraft(itemStack));
+        craftToggle.setHoverTexture(new ColorRectTexture(COLOR_BG_LIGHT));
+        panel.addWidget(craftToggle);
+
+        LabelWidget craftValue = new LabelWidget(GUI_WIDTH - 54, yPos + 2,
+                () -> isAutoCraft(itemStack) ? "§aYes" : "§cNo");
+        panel.addWidget(craftValue);
+
+        LabelWidget craftHint = new LabelWidget(8, yPos + 14, "§8Needs a linked ME Network");
+        craftHint.setTextColor(0xFF666666);
+        panel.addWidget(craftHint);
+
         return panel;
     }
 
@@ -160,6 +182,23 @@ public class ManagerSettingsUI {
         GTCEUTerminalMod.LOGGER.info("Tier Mode set to: {}", tier);
     }
 
+    // ═══════════════════════════════════════════════════════════════
+    // AUTO-CRAFT MISSING
+    // ═══════════════════════════════════════════════════════════════
+
+    private boolean isAutoCraft(ItemStack itemStack) {
+        CompoundTag tag = itemStack.getTag();
+        return tag != null && tag.getBoolean("AutoCraftMissing");
+    }
+
+    private void toggleAutoCraft(ItemStack itemStack) {
+        boolean enabled = !isAutoCraft(itemStack);
+        CompoundTag tag = itemStack.getOrCreateTag();
+        tag.putBoolean("AutoCraftMissing", enabled);
+        itemStack.setTag(tag);
+        GTCEUTerminalMod.LOGGER.info("Auto-Craft Missing toggled to: {}", enabled);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // UTILITY
     // ═══════════════════════════════════════════════════════════════
@@ -2,8 +2,10 @@ package com.gtceuterminal.client.gui.multiblock;
 
 import com.gtceuterminal.GTCEUTerminalMod;
 import com.gtceuterminal.client.gui.factory.MultiStructureUIFactory;
+import com.gtceuterminal.client.gui.widget.MultiblockModelWidget;
+import com.gtceuterminal.client.gui.widget.VirtualListWidget;
 import com.gtceuterminal.common.multiblock.MultiblockInfo;
-import com.gtceuterminal.common.multiblock.MultiblockScanner;
+import com.gtceuterminal.common.multiblock.MultiblockModel;
 
 import com.lowdragmc.lowdraglib.gui.modular.ModularUI;
 import com.lowdragmc.lowdraglib.gui.texture.ColorBorderTexture;
@@ -13,17 +15,14 @@ import com.lowdragmc.lowdraglib.gui.texture.TextTexture;
 import com.lowdragmc.lowdraglib.gui.widget.*;
 import com.lowdragmc.lowdraglib.utils.Size;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.player.Player;
 
-import java.util.ArrayList;
-import java.util.List;
-
 // Multi-Structure Manager UI
 public class MultiStructureManagerUI {
 
     private static final int GUI_WIDTH = 320;
     private static final int GUI_HEIGHT = 240;
-    private static final int SCAN_RADIUS = 32;
 
     private static final int COLOR_BG_DARK = 0xFF1A1A1A;
     private static final int COLOR_BG_MEDIUM = 0xFF2B2B2B;
@@ -34,26 +33,24 @@ public class MultiStructureManagerUI {
     private static final int COLOR_TEXT_GRAY = 0xFFAAAAAA;
     private static final int COLOR_HOVER = 0x40FFFFFF;
 
+    private static final int ROW_HEIGHT = 22;
+
     private final MultiStructureUIFactory.MultiStructureHolder holder;
     private final Player player;
-    private List<MultiblockInfo> multiblocks = new ArrayList<>();
-    private int selectedIndex = -1;
+    // Scanned and kept up to date by the server, see MultiblockModelWidget
+    private final MultiblockModel model;
+    // By position so the selection survives a rescan reordering the list
+    private BlockPos selectedPos;
     private ModularUI gui;
 
     // Keep a reference so we can disable hover/clicks when modal dialogs are open
-    private DraggableScrollableWidgetGroup multiblockScroll;
+    private VirtualListWidget<MultiblockInfo> multiblockList;
+    private MultiblockModelWidget modelWidget;
 
     public MultiStructureManagerUI(MultiStructureUIFactory.MultiStructureHolder holder, Player player) {
         this.holder = holder;
         this.player = player;
-        scanMultiblocks();
-    }
-
-    private void scanMultiblocks() {
-        this.multiblocks = MultiblockScanner.scanNearbyMultiblocks(
-                player, player.level(), SCAN_RADIUS
-        );
-        GTCEUTerminalMod.LOGGER.info("Scanned {} multiblocks", multiblocks.size());
+        this.model = holder.getModel();
     }
 
     public ModularUI createUI() {
@@ -65,6 +62,13 @@ public class MultiStructureManagerUI {
         mainGroup.addWidget(createMultiblockList());
         mainGroup.addWidget(createRefreshButton());
 
+        // Runs on both sides: the server applies its own scans, the client the deltas it receives
+        this.modelWidget = new MultiblockModelWidget(model, player, this::onModelChanged);
+        mainGroup.addWidget(modelWidget);
+        // Live status only for the rows on screen
+        multiblockList.setVisibleItemsListener(visible -> modelWidget.subscribe(
+                visible.stream().map(MultiblockInfo::getControllerPos).toList()));
+
         this.gui = new ModularUI(new Size(GUI_WIDTH, GUI_HEIGHT), holder, player);
         gui.widget(mainGroup);
         gui.background(new ColorRectTexture(0x90000000));
@@ -91,8 +95,7 @@ public class MultiStructureManagerUI {
         WidgetGroup header = new WidgetGroup(2, 2, GUI_WIDTH - 4, 28);
         header.setBackground(new ColorRectTexture(COLOR_BG_MEDIUM));
 
-        String title = "Nearby Multiblocks (" + multiblocks.size() + ")";
-        LabelWidget titleLabel = new LabelWidget(10, 10, title);
+        LabelWidget titleLabel = new LabelWidget(10, 10, () -> "Nearby Multiblocks (" + model.getMultiblocks().size() + ")");
         titleLabel.setTextColor(COLOR_TEXT_WHITE);
         header.addWidget(titleLabel);
 
@@ -107,59 +110,70 @@ public class MultiStructureManagerUI {
                 new ColorBorderTexture(1, COLOR_BORDER_DARK)
         ));
 
-        DraggableScrollableWidgetGroup scrollWidget = new DraggableScrollableWidgetGroup(
-                2, 2, GUI_WIDTH - 30, 176
+        // Rows are recycled as the list scrolls, only the visible ones exist as widgets
+        this.multiblockList = new VirtualListWidget<>(
+                2, 2, GUI_WIDTH - 30, 176, ROW_HEIGHT,
+                MultiblockRow::new,
+                MultiblockInfo::getControllerPos,
+                MultiStructureManagerUI::sameRow
         );
-        this.multiblockScroll = scrollWidget;
-        scrollWidget.setYScrollBarWidth(8);
-        scrollWidget.setYBarStyle(
-                new ColorRectTexture(COLOR_BORDER_DARK),
-                new ColorRectTexture(COLOR_BORDER_LIGHT)
-        );
-
-        int yPos = 0;
-        for (int i = 0; i < multiblocks.size(); i++) {
-            final int index = i;
-            MultiblockInfo mb = multiblocks.get(i);
-            scrollWidget.addWidget(createMultiblockEntry(mb, index, yPos));
-            yPos += 22;
-        }
+        multiblockList.setItems(model.getMultiblocks());
 
-        listGroup.addWidget(scrollWidget);
+        listGroup.addWidget(multiblockList);
         return listGroup;
     }
 
-    private WidgetGroup createMultiblockEntry(MultiblockInfo mb, int index, int yPos) {
-        WidgetGroup entry = new WidgetGroup(0, yPos, GUI_WIDTH - 40, 20);
-
-        boolean isSelected = (index == selectedIndex);
-
-        ButtonWidget clickBtn = new ButtonWidget(0, 0, GUI_WIDTH - 40, 20,
-                new ColorRectTexture(isSelected ? COLOR_HOVER : 0x00000000),
-                cd -> {
-                    selectedIndex = index;
-                    openComponentDetail(mb);
-                });
-        clickBtn.setHoverTexture(new ColorRectTexture(COLOR_HOVER));
-        entry.addWidget(clickBtn);
-
-        LabelWidget arrow = new LabelWidget(5, 5, "▶");
-        arrow.setTextColor(COLOR_TEXT_WHITE);
-        entry.addWidget(arrow);
-
-        LabelWidget nameLabel = new LabelWidget(20, 5, mb.getName());
-        nameLabel.setTextColor(COLOR_TEXT_WHITE);
-        entry.addWidget(nameLabel);
-
-        LabelWidget distLabel = new LabelWidget(180, 5, mb.getDistanceString());
-        distLabel.setTextColor(COLOR_TEXT_GRAY);
-        entry.addWidget(distLabel);
+    // Everything a row displays, so unchanged entries skip the rebind on refresh
+    private static boolean sameRow(MultiblockInfo a, MultiblockInfo b) {
+        return a.getName().equals(b.getName())
+                && a.getDistanceString().equals(b.getDistanceString())
+                && a.getStatus() == b.getStatus();
+    }
 
-        int statusColor = mb.getStatus().getColor();
-        entry.addWidget(new ImageWidget(GUI_WIDTH - 70, 6, 8, 8,
-                new ColorRectTexture(statusColor)));
+    private class MultiblockRow extends VirtualListWidget.Row<MultiblockInfo> {
+        private final ColorRectTexture background = new ColorRectTexture(0x00000000);
+        private final ColorRectTexture statusTexture = new ColorRectTexture(0x00000000);
+        private final LabelWidget nameLabel;
+        private final LabelWidget distLabel;
+        private final ImageWidget statusIcon;
+
+        MultiblockRow(int width, int height) {
+            super(width, height);
+
+            ButtonWidget clickBtn = new ButtonWidget(0, 0, width, height - 2, background,
+                    cd -> {
+                        MultiblockInfo mb = getItem();
+                        selectedPos = mb.getControllerPos();
+                        multiblockList.invalidateRows();
+                        openComponentDetail(mb);
+                    });
+            clickBtn.setHoverTexture(new ColorRectTexture(COLOR_HOVER));
+            addWidget(clickBtn);
+
+            LabelWidget arrow = new LabelWidget(5, 5, "▶");
+            arrow.setTextColor(COLOR_TEXT_WHITE);
+            addWidget(arrow);
+
+            nameLabel = new LabelWidget(20, 5, "");
+            nameLabel.setTextColor(COLOR_TEXT_WHITE);
+            addWidget(nameLabel);
+
+            distLabel = new LabelWidget(180, 5, "");
+            distLabel.setTextColor(COLOR_TEXT_GRAY);
+            addWidget(distLabel);
+
+            statusIcon = new ImageWidget(width - 30, 6, 8, 8, statusTexture);
+            addWidget(statusIcon);
+        }
 
-        return entry;
+        @Override
+        protected void bind(MultiblockInfo mb, int index) {
+            background.setColor(mb.getControllerPos().equals(selectedPos) ? COLOR_HOVER : 0x00000000);
+            nameLabel.setText(mb.getName());
+            distLabel.setText(mb.getDistanceString());
+            statusTexture.setColor(0xFF000000 | mb.getStatus().getColor());
+            statusIcon.setHoverTooltips(mb.getStatus().getDisplayName());
+        }
     }
 
     // Refresh Button
@@ -171,8 +185,9 @@ public class MultiStructureManagerUI {
                         new ColorBorderTexture(1, COLOR_BORDER_LIGHT)
                 ),
                 cd -> {
-                    scanMultiblocks();
-                    refreshUI();
+                    if (!cd.isRemote) {
+                        refreshUI();
+                    }
                 }
         );
 
@@ -192,8 +207,8 @@ public class MultiStructureManagerUI {
         GTCEUTerminalMod.LOGGER.info("Opening component detail for: {}", multiblock.getName());
 
         // Disable the underlying list so it doesn't highlight/hover through the dialog.
-        if (multiblockScroll != null) {
-            multiblockScroll.setActive(false);
+        if (multiblockList != null) {
+            multiblockList.setActive(false);
         }
 
         com.gtceuterminal.client.gui.dialog.ComponentDetailDialog detailDialog =
@@ -203,22 +218,30 @@ public class MultiStructureManagerUI {
                         multiblock,
                         () -> {
                             // Re-enable list when the dialog closes
-                            if (multiblockScroll != null) {
-                                multiblockScroll.setActive(true);
+                            if (multiblockList != null) {
+                                multiblockList.setActive(true);
                             }
                         }
                 );
     }
 
+    // Server side: rescan now instead of waiting for the next periodic scan
     private void refreshUI() {
-        scanMultiblocks();
+        modelWidget.rescan();
 
         player.displayClientMessage(
-                net.minecraft.network.chat.Component.literal("§aRefreshed - Found " + multiblocks.size() + " multiblocks"),
+                net.minecraft.network.chat.Component.literal("§aRefreshed - Found " + model.getMultiblocks().size() + " multiblocks"),
                 true
         );
     }
 
+    private void onModelChanged() {
+        // Diffed against the rows on screen, unchanged entries keep their widgets
+        if (multiblockList != null) {
+            multiblockList.setItems(model.getMultiblocks());
+        }
+    }
+
     public static ModularUI create(MultiStructureUIFactory.MultiStructureHolder holder, Player player) {
         MultiStructureManagerUI ui = new MultiStructureManagerUI(holder, player);
         return ui.createUI();
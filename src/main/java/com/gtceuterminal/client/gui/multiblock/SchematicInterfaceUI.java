@@ -406,6 +406,24 @@ public class SchematicInterfaceUI {
         ));
         buttonSection.addWidget(deleteButton);
 
+        // Auto-craft toggle: missing paste materials are requested from ME autocrafting
+        startX += buttonWidth + spacing;
+        ItemStack terminal = holder.getTerminalItem();
+        ButtonWidget craftToggle = new ButtonWidget(startX, 6, 54, buttonHeight,
+                new GuiTextureGroup(
+                        new ColorRectTexture(COLOR_BG_LIGHT),
+                        new ColorBorderTexture(1, COLOR_BORDER_LIGHT)
+                ),
+                cd -> toggleAutoCraft(terminal));
+        craftToggle.setHoverTexture(new GuiTextureGroup(
+                new ColorRectTexture(COLOR_BG_DARK),
+                new ColorBorderTexture(2, COLOR_TEXT_WHITE)
+        ));
+        craftToggle.setHoverTooltips("Auto-craft missing materials in the linked ME Network");
+        buttonSection.addWidget(craftToggle);
+        buttonSection.addWidget(new LabelWidget(startX + 6, 14,
+                () -> isAutoCraft(terminal) ? "§aCraft ✓" : "§7Craft ✗"));
+
         ButtonWidget closeButton = new ButtonWidget(GUI_WIDTH - 110, 6, 90, buttonHeight,
                 new GuiTextureGroup(
                         new ColorRectTexture(COLOR_BG_LIGHT),
@@ -424,6 +442,17 @@ public class SchematicInterfaceUI {
         return buttonSection;
     }
 
+    private boolean isAutoCraft(ItemStack terminal) {
+        CompoundTag tag = terminal.getTag();
+        return tag != null && tag.getBoolean("AutoCraftMissing");
+    }
+
+    private void toggleAutoCraft(ItemStack terminal) {
+        CompoundTag tag = terminal.getOrCreateTag();
+        tag.putBoolean("AutoCraftMissing", !tag.getBoolean("AutoCraftMissing"));
+        terminal.setTag(tag);
+    }
+
     private String getMultiblockName(SchematicData schematic) {
         if (schematic == null || schematic.getBlocks().isEmpty()) {
             return "Multiblock Structure";
@@ -0,0 +1,169 @@
+package com.gtceuterminal.client.gui.widget;
+
+import com.gtceuterminal.common.multiblock.MultiblockInfo;
+import com.gtceuterminal.common.multiblock.MultiblockModel;
+import com.gtceuterminal.common.multiblock.MultiblockScanner;
+import com.gtceuterminal.common.multiblock.MultiblockStatus;
+
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+
+import com.lowdragmc.lowdraglib.gui.widget.Widget;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Invisible widget that keeps a client's multiblock model in step with the server's
+ * The server re-reads the machines already listed every couple of seconds and rescans the
+ * whole area now and then (or when asked), then sends only the delta. On top of that the client
+ * subscribes to the controllers currently on screen: the server checks those for status changes
+ * every tick and sends whatever flipped as one update. Both sides run the listener, so the
+ * server-side UI sees the same list as the client
+ */
+public class MultiblockModelWidget extends Widget {
+
+    private static final int UPDATE_DELTA = 0;
+    private static final int ACTION_SUBSCRIBE = 0;
+
+    // Known controllers are cheap to re-read, a full area scan walks every block in range
+    private static final int REFRESH_TICKS = 40;
+    private static final int RESCAN_TICKS = 600;
+    // Status probes per tick, subscriptions beyond that are cycled through over several ticks
+    private static final int PROBE_BUDGET = 32;
+    private static final int MAX_SUBSCRIPTIONS = 256;
+
+    private final MultiblockModel model;
+    private final Player player;
+    private final Runnable onChanged;
+    private int ticks;
+
+    // Client: controllers on screen, and what the server was last told
+    private List<BlockPos> wanted = List.of();
+    private List<BlockPos> sent = List.of();
+    // Server: controllers the client is looking at
+    private List<BlockPos> subscribed = List.of();
+    private int probeCursor;
+
+    public MultiblockModelWidget(MultiblockModel model, Player player, Runnable onChanged) {
+        super(0, 0, 0, 0);
+        this.model = model;
+        this.player = player;
+        this.onChanged = onChanged;
+    }
+
+    public MultiblockModel getModel() {
+        return model;
+    }
+
+    // Client: the controllers to watch, sent on the next tick if different from last time
+    public void subscribe(List<BlockPos> controllers) {
+        this.wanted = controllers;
+    }
+
+    @Override
+    public void updateScreen() {
+        super.updateScreen();
+        // Coalesced per tick, scrolling through rows doesn't send one action per step
+        if (!wanted.equals(sent)) {
+            List<BlockPos> controllers = List.copyOf(wanted);
+            sent = controllers;
+            writeClientAction(ACTION_SUBSCRIBE, buf -> buf.writeCollection(controllers, FriendlyByteBuf::writeBlockPos));
+        }
+    }
+
+    @Override
+    public void handleClientAction(int id, FriendlyByteBuf buffer) {
+        if (id == ACTION_SUBSCRIBE) {
+            List<BlockPos> controllers = buffer.readList(FriendlyByteBuf::readBlockPos);
+            subscribed = controllers.size() > MAX_SUBSCRIPTIONS ? controllers.subList(0, MAX_SUBSCRIPTIONS) : controllers;
+            probeCursor = 0;
+        } else {
+            super.handleClientAction(id, buffer);
+        }
+    }
+
+    @Override
+    public void detectAndSendChanges() {
+        super.detectAndSendChanges();
+        ticks++;
+        if (ticks % RESCAN_TICKS == 0) {
+            rescan();
+        } else if (ticks % REFRESH_TICKS == 0) {
+            refreshKnown();
+        } else {
+            probeSubscribed();
+        }
+    }
+
+    // Server: scan the whole area again, picking up new and removed machines
+    public void rescan() {
+        List<MultiblockInfo> scanned = MultiblockScanner.scanNearbyMultiblocks(player, player.level(), MultiblockModel.SCAN_RADIUS);
+        sendDelta(buf -> model.update(scanned, buf));
+    }
+
+    // Server: re-read only the controllers already listed
+    private void refreshKnown() {
+        List<MultiblockInfo> refreshed = new ArrayList<>();
+        for (MultiblockInfo info : model.getMultiblocks()) {
+            MultiblockInfo fresh = MultiblockScanner.scanMultiblockAt(player, player.level(), info.getControllerPos());
+            // Gone or unformed: leave it to the next full scan so entries don't flicker
+            refreshed.add(fresh != null ? fresh : info);
+        }
+        refreshed.sort(Comparator.comparingDouble(MultiblockInfo::getDistanceFromPlayer));
+        sendDelta(buf -> model.update(refreshed, buf));
+    }
+
+    // Server: status of the subscribed controllers, only the changed ones go out
+    private void probeSubscribed() {
+        if (subscribed.isEmpty()) {
+            return;
+        }
+
+        Level level = player.level();
+        Map<BlockPos, MultiblockStatus> statuses = new HashMap<>();
+        int probes = Math.min(PROBE_BUDGET, subscribed.size());
+        for (int i = 0; i < probes; i++) {
+            probeCursor %= subscribed.size();
+            BlockPos pos = subscribed.get(probeCursor++);
+            // Unloaded or removed machines are left to the next scan
+            if (level.isLoaded(pos) && MetaMachine.getMachine(level, pos) instanceof IMultiController controller) {
+                statuses.put(pos, MultiblockStatus.of(controller));
+            }
+        }
+        sendDelta(buf -> model.updateStatuses(statuses, buf));
+    }
+
+    private void sendDelta(Predicate<FriendlyByteBuf> writer) {
+        FriendlyByteBuf delta = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            if (writer.test(delta)) {
+                writeUpdateInfo(UPDATE_DELTA, buf -> buf.writeBytes(delta));
+                onChanged.run();
+            }
+        } finally {
+            delta.release();
+        }
+    }
+
+    @Override
+    public void readUpdateInfo(int id, FriendlyByteBuf buffer) {
+        if (id == UPDATE_DELTA) {
+            model.applyDelta(buffer);
+            onChanged.run();
+        } else {
+            super.readUpdateInfo(id, buffer);
+        }
+    }
+}
@@ -1,36 +1,45 @@
 package com.gtceuterminal.client.gui.widget;
 
+import com.gtceuterminal.client.renderer.BakedBuffers;
 import com.gtceuterminal.common.data.SchematicData;
 
+import com.lowdragmc.lowdraglib.gui.modular.ModularUI;
 import com.lowdragmc.lowdraglib.gui.widget.WidgetGroup;
 
 import com.mojang.blaze3d.platform.Lighting;
 import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
 import com.mojang.math.Axis;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.ShaderInstance;
 import net.minecraft.client.renderer.block.BlockRenderDispatcher;
 import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.ColorResolver;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.lighting.LevelLightEngine;
 import net.minecraft.world.level.material.FluidState;
+import net.minecraftforge.client.model.data.ModelData;
 
 import org.jetbrains.annotations.NotNull;
+import org.joml.Matrix4f;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class SchematicPreviewWidget extends WidgetGroup {
 
@@ -54,6 +63,12 @@ public class SchematicPreviewWidget extends WidgetGroup {
     private boolean needsRebuild = true;
     private PreviewLevel previewLevel;
 
+    // Whole schematic baked into one static buffer per render type, rebuilt only when the schematic changes
+    private final Map<RenderType, VertexBuffer> bakedBuffers = new HashMap<>();
+    private final List<BlockEntry> dynamicBlocks = new ArrayList<>();
+    private boolean needsBake = true;
+    private boolean closeListenerRegistered = false;
+
     private static class BlockEntry {
         BlockPos pos;
         BlockState state;
@@ -104,6 +119,17 @@ public class SchematicPreviewWidget extends WidgetGroup {
             return 1.0F;
         }
 
+        // Baked full bright, like the old per-frame rendering
+        @Override
+        public int getBrightness(@NotNull LightLayer lightLayer, @NotNull BlockPos pos) {
+            return 15;
+        }
+
+        @Override
+        public int getRawBrightness(@NotNull BlockPos pos, int amount) {
+            return 15;
+        }
+
         @Override
         public int getBlockTint(@NotNull BlockPos pos, @NotNull ColorResolver colorResolver) {
             return 0xFFFFFFFF;
@@ -129,9 +155,20 @@ public class SchematicPreviewWidget extends WidgetGroup {
         updateCache();
     }
 
+    @Override
+    public void setGui(ModularUI gui) {
+        super.setGui(gui);
+        // Widgets have no removal hook, free the GPU buffers with the screen
+        if (gui != null && !closeListenerRegistered) {
+            gui.registerCloseListener(this::releaseMesh);
+            closeListenerRegistered = true;
+        }
+    }
+
     private void updateCache() {
         if (schematic == null || schematic.getBlocks().isEmpty()) {
             renderCache.clear();
+            releaseMesh();
             cachedMinPos = BlockPos.ZERO;
             cachedSize = BlockPos.ZERO;
             needsRebuild = false;
@@ -177,6 +214,7 @@ public class SchematicPreviewWidget extends WidgetGroup {
                     new HashMap<>(schematic.getBlockEntities())
             );
 
+            releaseMesh();
             needsRebuild = false;
         }
     }
@@ -251,10 +289,11 @@ public class SchematicPreviewWidget extends WidgetGroup {
             poseStack.mulPose(Axis.XP.rotationDegrees(this.rotationX));
             poseStack.mulPose(Axis.YP.rotationDegrees(this.rotationY));
 
+            // Baked vertices are relative to the schematic's min corner
             poseStack.translate(
-                    -(cachedMinPos.getX() + cachedSize.getX() / 2.0F),
-                    -(cachedMinPos.getY() + cachedSize.getY() / 2.0F),
-                    -(cachedMinPos.getZ() + cachedSize.getZ() / 2.0F)
+                    -cachedSize.getX() / 2.0F,
+                    -cachedSize.getY() / 2.0F,
+                    -cachedSize.getZ() / 2.0F
             );
 
             renderBlocks(poseStack);
@@ -274,35 +313,128 @@ public class SchematicPreviewWidget extends WidgetGroup {
 
     private void renderBlocks(PoseStack poseStack) {
         Minecraft mc = Minecraft.getInstance();
-        BlockRenderDispatcher blockRenderer = mc.getBlockRenderer();
-        MultiBufferSource.BufferSource bufferSource = mc.renderBuffers().bufferSource();
+        if (needsBake) {
+            bakeMesh(mc);
+        }
 
         RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
         RenderSystem.enableDepthTest();
         RenderSystem.depthMask(true);
 
-        for (BlockEntry entry : renderCache) {
-            poseStack.pushPose();
-            poseStack.translate(entry.pos.getX(), entry.pos.getY(), entry.pos.getZ());
-
-            try {
-                blockRenderer.renderSingleBlock(
-                        entry.state,
-                        poseStack,
-                        bufferSource,
-                        15728880,
-                        OverlayTexture.NO_OVERLAY
+        // Rotation and zoom only change the matrix, the geometry is already on the GPU
+        Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(poseStack.last().pose());
+        for (RenderType renderType : RenderType.chunkBufferLayers()) {
+            VertexBuffer vertexBuffer = bakedBuffers.get(renderType);
+            if (vertexBuffer == null) {
+                continue;
+            }
+            ShaderInstance shader = BakedBuffers.beginDraw(renderType);
+            if (shader == null) {
+                continue;
+            }
+            // The GUI projection flips winding, same reason culling is off for the whole preview
+            RenderSystem.disableCull();
+            vertexBuffer.bind();
+            vertexBuffer.drawWithShader(modelView, RenderSystem.getProjectionMatrix(), shader);
+            BakedBuffers.endDraw(renderType);
+        }
+        RenderSystem.disableCull();
+
+        if (!dynamicBlocks.isEmpty()) {
+            BlockRenderDispatcher blockRenderer = mc.getBlockRenderer();
+            MultiBufferSource.BufferSource bufferSource = mc.renderBuffers().bufferSource();
+
+            for (BlockEntry entry : dynamicBlocks) {
+                poseStack.pushPose();
+                poseStack.translate(
+                        entry.pos.getX() - cachedMinPos.getX(),
+                        entry.pos.getY() - cachedMinPos.getY(),
+                        entry.pos.getZ() - cachedMinPos.getZ()
                 );
-            } catch (Exception e) {
+
+                try {
+                    blockRenderer.renderSingleBlock(
+                            entry.state,
+                            poseStack,
+                            bufferSource,
+                            15728880,
+                            OverlayTexture.NO_OVERLAY
+                    );
+                } catch (Exception e) {
+                }
+
+                poseStack.popPose();
             }
 
-            poseStack.popPose();
+            bufferSource.endBatch();
         }
-
-        bufferSource.endBatch();
         RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
     }
 
+    /**
+     * Tessellate the whole schematic once against the preview level
+     * With checkSides on, faces between two full opaque blocks are dropped, so the
+     * interior of large casings isn't drawn at all
+     */
+    private void bakeMesh(Minecraft mc) {
+        releaseMesh();
+        needsBake = false;
+        if (previewLevel == null) {
+            return;
+        }
+
+        BlockRenderDispatcher blockRenderer = mc.getBlockRenderer();
+        PoseStack bakeStack = new PoseStack();
+        RandomSource random = RandomSource.create();
+        Set<RenderType> used = new HashSet<>();
+
+        for (BlockEntry entry : renderCache) {
+            RenderShape shape = entry.state.getRenderShape();
+            if (shape == RenderShape.ENTITYBLOCK_ANIMATED) {
+                dynamicBlocks.add(entry);
+                continue;
+            }
+            if (shape != RenderShape.MODEL) {
+                continue;
+            }
+
+            BakedModel model = blockRenderer.getBlockModel(entry.state);
+            bakeStack.pushPose();
+            bakeStack.translate(
+                    entry.pos.getX() - cachedMinPos.getX(),
+                    entry.pos.getY() - cachedMinPos.getY(),
+                    entry.pos.getZ() - cachedMinPos.getZ()
+            );
+
+            random.setSeed(entry.state.getSeed(entry.pos));
+            for (RenderType renderType : model.getRenderTypes(entry.state, random, ModelData.EMPTY)) {
+                BufferBuilder builder = BakedBuffers.begin(renderType);
+                used.add(renderType);
+                try {
+                    blockRenderer.renderBatched(entry.state, entry.pos, previewLevel, bakeStack, builder,
+                            true, random, ModelData.EMPTY, renderType);
+                } catch (Exception e) {
+                }
+            }
+
+            bakeStack.popPose();
+        }
+
+        for (RenderType renderType : used) {
+            VertexBuffer vertexBuffer = BakedBuffers.upload(renderType);
+            if (vertexBuffer != null) {
+                bakedBuffers.put(renderType, vertexBuffer);
+            }
+        }
+    }
+
+    private void releaseMesh() {
+        bakedBuffers.values().forEach(VertexBuffer::close);
+        bakedBuffers.clear();
+        dynamicBlocks.clear();
+        needsBake = true;
+    }
+
     private void drawEmptyMessage(GuiGraphics graphics) {
         String msg = "No Schematic";
         int textWidth = Minecraft.getInstance().font.width(msg);
@@ -0,0 +1,276 @@
+package com.gtceuterminal.client.gui.widget;
+
+import com.lowdragmc.lowdraglib.gui.widget.WidgetGroup;
+
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Scrolling list that only keeps widgets for the rows in view
+ * A fixed pool of rows (one more than fits) is laid out as a ring: item i always lands in slot
+ * i % pool, so scrolling by one row rebinds a single row widget. New data is diffed against what
+ * the rows show - a row whose item has the same key and content keeps its widgets untouched.
+ * The scroll offset is mirrored to the server so button clicks land on the same row there
+ */
+public class VirtualListWidget<T> extends WidgetGroup {
+
+    private static final int SCROLL_BAR_WIDTH = 8;
+    private static final int MIN_THUMB_HEIGHT = 10;
+    private static final int COLOR_BAR = 0xFF0A0A0A;
+    private static final int COLOR_THUMB = 0xFF5A5A5A;
+
+    private static final int ACTION_SCROLL = 0;
+
+    /**
+     * One recycled row, rebound to whichever item scrolls under it
+     */
+    public abstract static class Row<T> extends WidgetGroup {
+        private T item;
+        private int index = -1;
+
+        protected Row(int width, int height) {
+            super(0, 0, width, height);
+        }
+
+        // Point the row's widgets at a new item
+        protected abstract void bind(T item, int index);
+
+        // The item currently under this row, kept fresh even when bind is skipped
+        public T getItem() {
+            return item;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowFactory<T> {
+        Row<T> create(int width, int height);
+    }
+
+    private final int rowHeight;
+    private final Function<T, ?> keyFunction;
+    private final BiPredicate<T, T> sameContent;
+    private final List<Row<T>> rows = new ArrayList<>();
+    private List<T> items = List.of();
+    private int scrollOffset;
+    private Consumer<List<T>> visibleItemsListener;
+
+    private boolean draggingBar;
+    private double dragStartY;
+    private int dragStartOffset;
+
+    /**
+     * @param keyFunction identity of an item across refreshes
+     * @param sameContent whether two items with the same key would render the same row
+     */
+    public VirtualListWidget(int x, int y, int width, int height, int rowHeight, RowFactory<T> rowFactory,
+                             Function<T, ?> keyFunction, BiPredicate<T, T> sameContent) {
+        super(x, y, width, height);
+        this.rowHeight = rowHeight;
+        this.keyFunction = keyFunction;
+        this.sameContent = sameContent;
+
+        int poolSize = Mth.positiveCeilDiv(height, rowHeight) + 1;
+        for (int i = 0; i < poolSize; i++) {
+            Row<T> row = rowFactory.create(width - SCROLL_BAR_WIDTH - 2, rowHeight);
+            row.setVisible(false);
+            row.setActive(false);
+            rows.add(row);
+            addWidget(row);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    // Told which items are under the rows after every layout (scroll or new data)
+    public void setVisibleItemsListener(Consumer<List<T>> listener) {
+        this.visibleItemsListener = listener;
+        layoutRows();
+    }
+
+    /**
+     * Swap in new data, keeping the top visible item in place if it's still there
+     * Only rows whose item moved or changed are rebound
+     */
+    public void setItems(List<T> newItems) {
+        int first = scrollOffset / rowHeight;
+        if (first < items.size()) {
+            Object anchorKey = keyFunction.apply(items.get(first));
+            for (int i = 0; i < newItems.size(); i++) {
+                if (Objects.equals(keyFunction.apply(newItems.get(i)), anchorKey)) {
+                    scrollOffset = i * rowHeight + scrollOffset % rowHeight;
+                    break;
+                }
+            }
+        }
+
+        this.items = List.copyOf(newItems);
+        scrollOffset = Mth.clamp(scrollOffset, 0, getMaxScroll());
+        layoutRows();
+    }
+
+    // Rebind every visible row, for state the rows read from outside their item (e.g. selection)
+    public void invalidateRows() {
+        for (Row<T> row : rows) {
+            row.index = -1;
+        }
+        layoutRows();
+    }
+
+    public void scrollTo(int offset) {
+        int clamped = Mth.clamp(offset, 0, getMaxScroll());
+        if (clamped != scrollOffset) {
+            scrollOffset = clamped;
+            layoutRows();
+            if (isRemote()) {
+                writeClientAction(ACTION_SCROLL, buf -> buf.writeVarInt(clamped));
+            }
+        }
+    }
+
+    @Override
+    public void handleClientAction(int id, FriendlyByteBuf buffer) {
+        if (id == ACTION_SCROLL) {
+            scrollOffset = Mth.clamp(buffer.readVarInt(), 0, getMaxScroll());
+            layoutRows();
+        } else {
+            super.handleClientAction(id, buffer);
+        }
+    }
+
+    private int getMaxScroll() {
+        return Math.max(0, items.size() * rowHeight - getSize().height);
+    }
+
+    private void layoutRows() {
+        int pool = rows.size();
+        int first = scrollOffset / rowHeight;
+        for (int index = first; index < first + pool; index++) {
+            Row<T> row = rows.get(index % pool);
+            if (index >= items.size()) {
+                row.item = null;
+                row.index = -1;
+                row.setVisible(false);
+                row.setActive(false);
+                continue;
+            }
+
+            T item = items.get(index);
+            T bound = row.item;
+            boolean unchanged = row.index == index && bound != null
+                    && (bound == item || (Objects.equals(keyFunction.apply(bound), keyFunction.apply(item))
+                    && sameContent.test(bound, item)));
+            row.item = item;
+            row.index = index;
+            if (!unchanged) {
+                row.bind(item, index);
+            }
+
+            row.setSelfPosition(0, index * rowHeight - scrollOffset);
+            row.setVisible(true);
+            row.setActive(true);
+        }
+
+        if (visibleItemsListener != null) {
+            visibleItemsListener.accept(items.subList(Math.min(first, items.size()), Math.min(first + pool, items.size())));
+        }
+    }
+
+    private boolean isOverScrollBar(double mouseX, double mouseY) {
+        return getMaxScroll() > 0 && isMouseOverElement(mouseX, mouseY)
+                && mouseX >= getPosition().x + getSize().width - SCROLL_BAR_WIDTH;
+    }
+
+    private int getThumbHeight() {
+        int height = getSize().height;
+        return Math.max(MIN_THUMB_HEIGHT, height * height / (items.size() * rowHeight));
+    }
+
+    @Override
+    public void drawInBackground(@NotNull GuiGraphics graphics, int mouseX, int mouseY, float partialTicks) {
+        int x = getPosition().x;
+        int y = getPosition().y;
+        int w = getSize().width;
+        int h = getSize().height;
+
+        // Rows straddling the edges are clipped rather than culled
+        graphics.enableScissor(x, y, x + w, y + h);
+        super.drawInBackground(graphics, mouseX, mouseY, partialTicks);
+        graphics.disableScissor();
+
+        int maxScroll = getMaxScroll();
+        if (maxScroll > 0) {
+            int barX = x + w - SCROLL_BAR_WIDTH;
+            int thumbHeight = getThumbHeight();
+            int thumbY = y + (h - thumbHeight) * scrollOffset / maxScroll;
+            graphics.fill(barX, y, x + w, y + h, COLOR_BAR);
+            graphics.fill(barX, thumbY, x + w, thumbY + thumbHeight, COLOR_THUMB);
+        }
+    }
+
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        // Rows hanging past the viewport are still laid out there, don't let them take clicks
+        if (!isMouseOverElement(mouseX, mouseY)) {
+            return false;
+        }
+        if (button == 0 && isOverScrollBar(mouseX, mouseY)) {
+            int thumbHeight = getThumbHeight();
+            int thumbY = getPosition().y + (getSize().height - thumbHeight) * scrollOffset / getMaxScroll();
+            if (mouseY < thumbY || mouseY >= thumbY + thumbHeight) {
+                // Jump so the thumb centres on the cursor, then drag from there
+                double fraction = (mouseY - getPosition().y - thumbHeight / 2.0) / (getSize().height - thumbHeight);
+                scrollTo((int) Math.round(fraction * getMaxScroll()));
+            }
+            draggingBar = true;
+            dragStartY = mouseY;
+            dragStartOffset = scrollOffset;
+            return true;
+        }
+        return super.mouseClicked(mouseX, mouseY, button);
+    }
+
+    @Override
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double dragX, double dragY) {
+        if (draggingBar) {
+            int track = getSize().height - getThumbHeight();
+            if (track > 0) {
+                scrollTo(dragStartOffset + (int) Math.round((mouseY - dragStartY) * getMaxScroll() / track));
+            }
+            return true;
+        }
+        return super.mouseDragged(mouseX, mouseY, button, dragX, dragY);
+    }
+
+    @Override
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        if (draggingBar && button == 0) {
+            draggingBar = false;
+            return true;
+        }
+        return super.mouseReleased(mouseX, mouseY, button);
+    }
+
+    @Override
+    public boolean mouseWheelMove(double mouseX, double mouseY, double wheelDelta) {
+        if (isMouseOverElement(mouseX, mouseY)) {
+            scrollTo(scrollOffset - (int) Math.round(wheelDelta * rowHeight));
+            return true;
+        }
+        return super.mouseWheelMove(mouseX, mouseY, wheelDelta);
+    }
+}
@@ -0,0 +1,175 @@
+package com.gtceuterminal.client.highlight;
+
+import com.gtceuterminal.client.renderer.BakedBuffers;
+import com.gtceuterminal.common.multiblock.BlockMask;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.ShaderInstance;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.BitSet;
+
+/**
+ * Merged outline of a highlighted block set
+ * Only silhouette edges of the union are kept: edges inside a flat face or fully buried are
+ * dropped, so a solid 1000-block structure is a few hundred lines instead of 12 per block.
+ * Edges are computed on the CPU up front and uploaded once on the first draw. Vertices are white
+ * with per-line alpha, the actual colour comes from the shader colour uniform
+ */
+public class HighlightMesh implements AutoCloseable {
+
+    private static final float EDGE_ALPHA = 0.6F;
+
+    private final BlockPos origin;
+    private final AABB boundingBox;
+    // (x, y, z, axis) per edge, relative to origin
+    private final IntArrayList edges = new IntArrayList();
+    private VertexBuffer buffer;
+
+    public HighlightMesh(BlockMask mask) {
+        this.origin = mask.getOrigin();
+        this.boundingBox = new AABB(origin, origin.offset(mask.getSizeX(), mask.getSizeY(), mask.getSizeZ()));
+
+        // Every lattice edge of every block, each visited once per axis
+        int latticeX = mask.getSizeX() + 1, latticeY = mask.getSizeY() + 1, latticeZ = mask.getSizeZ() + 1;
+        BitSet[] visited = {new BitSet(), new BitSet(), new BitSet()};
+        BitSet bits = mask.getBits();
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            int x = index % mask.getSizeX();
+            int z = (index / mask.getSizeX()) % mask.getSizeZ();
+            int y = index / (mask.getSizeX() * mask.getSizeZ());
+
+            for (Direction.Axis axis : Direction.Axis.values()) {
+                for (int i = 0; i < 2; i++) {
+                    for (int j = 0; j < 2; j++) {
+                        int ex = x, ey = y, ez = z;
+                        switch (axis) {
+                            case X -> { ey += i; ez += j; }
+                            case Y -> { ex += i; ez += j; }
+                            case Z -> { ex += i; ey += j; }
+                        }
+                        int lattice = (ey * latticeZ + ez) * latticeX + ex;
+                        if (!visited[axis.ordinal()].get(lattice)) {
+                            visited[axis.ordinal()].set(lattice);
+                            if (isSilhouette(mask, ex, ey, ez, axis)) {
+                                edges.add(ex);
+                                edges.add(ey);
+                                edges.add(ez);
+                                edges.add(axis.ordinal());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // The four cells around an edge decide whether it's a visible crease of the union
+    private static boolean isSilhouette(BlockMask mask, int x, int y, int z, Direction.Axis axis) {
+        boolean ca, cb, cc;
+        switch (axis) {
+            case X -> {
+                ca = mask.contains(x, y - 1, z - 1);
+                cb = mask.contains(x, y, z - 1);
+                cc = mask.contains(x, y - 1, z);
+            }
+            case Y -> {
+                ca = mask.contains(x - 1, y, z - 1);
+                cb = mask.contains(x, y, z - 1);
+                cc = mask.contains(x - 1, y, z);
+            }
+            default -> {
+                ca = mask.contains(x - 1, y - 1, z);
+                cb = mask.contains(x, y - 1, z);
+                cc = mask.contains(x - 1, y, z);
+            }
+        }
+        boolean cd = mask.contains(x, y, z);
+        int count = (ca ? 1 : 0) + (cb ? 1 : 0) + (cc ? 1 : 0) + (cd ? 1 : 0);
+        // Odd counts are convex/concave corners, two diagonal cells meet only at the edge
+        return count == 1 || count == 3 || (count == 2 && ca == cd);
+    }
+
+    public AABB getBoundingBox() {
+        return boundingBox;
+    }
+
+    public int getEdgeCount() {
+        return edges.size() / 4;
+    }
+
+    public void draw(PoseStack poseStack, Vec3 cameraPos, ShaderInstance shader) {
+        if (buffer == null) {
+            buffer = upload();
+        }
+
+        poseStack.pushPose();
+        poseStack.translate(origin.getX() - cameraPos.x, origin.getY() - cameraPos.y, origin.getZ() - cameraPos.z);
+        buffer.bind();
+        buffer.drawWithShader(poseStack.last().pose(), RenderSystem.getProjectionMatrix(), shader);
+        poseStack.popPose();
+    }
+
+    private VertexBuffer upload() {
+        BufferBuilder builder = BakedBuffers.begin(RenderType.lines());
+
+        // Overall bounds, slightly inflated so it doesn't z-fight the block edges
+        AABB box = boundingBox.inflate(0.02).move(-origin.getX(), -origin.getY(), -origin.getZ());
+        float minX = (float) box.minX, minY = (float) box.minY, minZ = (float) box.minZ;
+        float maxX = (float) box.maxX, maxY = (float) box.maxY, maxZ = (float) box.maxZ;
+        addLine(builder, minX, minY, minZ, maxX, minY, minZ, 1.0F);
+        addLine(builder, maxX, minY, minZ, maxX, minY, maxZ, 1.0F);
+        addLine(builder, maxX, minY, maxZ, minX, minY, maxZ, 1.0F);
+        addLine(builder, minX, minY, maxZ, minX, minY, minZ, 1.0F);
+        addLine(builder, minX, maxY, minZ, maxX, maxY, minZ, 1.0F);
+        addLine(builder, maxX, maxY, minZ, maxX, maxY, maxZ, 1.0F);
+        addLine(builder, maxX, maxY, maxZ, minX, maxY, maxZ, 1.0F);
+        addLine(builder, minX, maxY, maxZ, minX, maxY, minZ, 1.0F);
+        addLine(builder, minX, minY, minZ, minX, maxY, minZ, 1.0F);
+        addLine(builder, maxX, minY, minZ, maxX, maxY, minZ, 1.0F);
+        addLine(builder, maxX, minY, maxZ, maxX, maxY, maxZ, 1.0F);
+        addLine(builder, minX, minY, maxZ, minX, maxY, maxZ, 1.0F);
+
+        for (int i = 0; i < edges.size(); i += 4) {
+            float x = edges.getInt(i), y = edges.getInt(i + 1), z = edges.getInt(i + 2);
+            switch (edges.getInt(i + 3)) {
+                case 0 -> addLine(builder, x, y, z, x + 1, y, z, EDGE_ALPHA);
+                case 1 -> addLine(builder, x, y, z, x, y + 1, z, EDGE_ALPHA);
+                default -> addLine(builder, x, y, z, x, y, z + 1, EDGE_ALPHA);
+            }
+        }
+
+        // Never empty, the bounding box is always there
+        return BakedBuffers.upload(RenderType.lines());
+    }
+
+    private static void addLine(BufferBuilder builder, float x1, float y1, float z1, float x2, float y2, float z2,
+                                float alpha) {
+        // The lines shader widens along the normal, so it has to be the line direction
+        float nx = x2 - x1, ny = y2 - y1, nz = z2 - z1;
+        float length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+        nx /= length;
+        ny /= length;
+        nz /= length;
+        builder.vertex(x1, y1, z1).color(1.0F, 1.0F, 1.0F, alpha).normal(nx, ny, nz).endVertex();
+        builder.vertex(x2, y2, z2).color(1.0F, 1.0F, 1.0F, alpha).normal(nx, ny, nz).endVertex();
+    }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            buffer.close();
+            buffer = null;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.gtceuterminal.client.highlight;
 
+import com.gtceuterminal.common.multiblock.BlockMask;
 import com.gtceuterminal.common.multiblock.MultiblockInfo;
-import com.gtceuterminal.common.multiblock.MultiblockScanner;
-import com.gtceuterminal.common.multiblock.MultiblockStatus;
+import com.gtceuterminal.common.network.CPacketHighlightRequest;
+import com.gtceuterminal.common.network.TerminalNetwork;
 
 import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
 
@@ -11,7 +12,6 @@ import net.minecraft.world.phys.AABB;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 
   // Manages multiblock highlighting on client side (going to be removed)
@@ -22,64 +22,60 @@ public class MultiblockHighlighter {
 
     public static class HighlightInfo {
         public final BlockPos controllerPos;
-        public final Set<BlockPos> blocks;
+        public final int blockCount;
         public final int color;
         public final long startTime;
         public final int duration; // milliseconds, -1 = permanent
         public final AABB boundingBox;
+        // Outline computed once here, drawn from a cached buffer every frame
+        public final HighlightMesh mesh;
 
-        public HighlightInfo(BlockPos controllerPos, Set<BlockPos> blocks, int color, int duration) {
+        public HighlightInfo(BlockPos controllerPos, BlockMask mask, int color, int duration) {
             this.controllerPos = controllerPos;
-            this.blocks = blocks;
+            this.blockCount = mask.getBlockCount();
             this.color = color;
             this.startTime = System.currentTimeMillis();
             this.duration = duration;
-            this.boundingBox = calculateBoundingBox(blocks);
+            this.mesh = new HighlightMesh(mask);
+            this.boundingBox = mesh.getBoundingBox();
         }
 
         public boolean isExpired() {
             if (duration < 0) return false;
             return (System.currentTimeMillis() - startTime) > duration;
         }
-
-        private AABB calculateBoundingBox(Set<BlockPos> blocks) {
-            if (blocks.isEmpty()) return new AABB(0, 0, 0, 0, 0, 0);
-
-            int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
-            int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
-
-            for (BlockPos pos : blocks) {
-                minX = Math.min(minX, pos.getX());
-                minY = Math.min(minY, pos.getY());
-                minZ = Math.min(minZ, pos.getZ());
-                maxX = Math.max(maxX, pos.getX());
-                maxY = Math.max(maxY, pos.getY());
-                maxZ = Math.max(maxZ, pos.getZ());
-            }
-
-            return new AABB(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1);
-        }
     }
 
+    // The client can't see the whole structure (unloaded sections, no pattern cache), so ask the server
     public static void highlight(IMultiController controller, int color, int durationMs) {
-        BlockPos controllerPos = controller.self().getPos();
-        Set<BlockPos> blocks = MultiblockScanner.getMultiblockBlocks(controller);
+        highlight(controller.self().getPos(), color, durationMs);
+    }
+
+    public static void highlight(BlockPos controllerPos, int color, int durationMs) {
+        TerminalNetwork.CHANNEL.sendToServer(new CPacketHighlightRequest(controllerPos, color, durationMs));
+    }
 
-        if (blocks.isEmpty()) {
+    // Called with the server's answer
+    public static void show(BlockPos controllerPos, BlockMask mask, int color, int durationMs) {
+        if (mask.isEmpty()) {
             com.gtceuterminal.GTCEUTerminalMod.LOGGER.warn("No blocks found for multiblock at {}", controllerPos);
             return;
         }
 
-        HighlightInfo info = new HighlightInfo(controllerPos, blocks, color, durationMs);
-        activeHighlights.put(controllerPos, info);
+        HighlightInfo info = new HighlightInfo(controllerPos, mask, color, durationMs);
+        HighlightInfo previous = activeHighlights.put(controllerPos, info);
+        if (previous != null) {
+            previous.mesh.close();
+        }
 
-        com.gtceuterminal.GTCEUTerminalMod.LOGGER.info("Added highlight for {} blocks at {} (color: 0x{}, duration: {}ms)",
-                blocks.size(), controllerPos, Integer.toHexString(color), durationMs);
+        com.gtceuterminal.GTCEUTerminalMod.LOGGER.debug("Added highlight for {} blocks ({} outline edges) at {} (color: 0x{}, duration: {}ms)",
+                info.blockCount, info.mesh.getEdgeCount(), controllerPos, Integer.toHexString(color), durationMs);
     }
 
     public static void highlightByStatus(MultiblockInfo multiblock, int durationMs) {
         int color = multiblock.getStatus().getColor();
-        highlight(multiblock.getController(), color, durationMs);
+        // Client-side entries come from the server model and carry no controller
+        highlight(multiblock.getControllerPos(), color, durationMs);
     }
 
     public static void highlight(IMultiController controller) {
@@ -87,16 +83,26 @@ public class MultiblockHighlighter {
     }
 
     public static void clearHighlight(BlockPos controllerPos) {
-        activeHighlights.remove(controllerPos);
+        HighlightInfo removed = activeHighlights.remove(controllerPos);
+        if (removed != null) {
+            removed.mesh.close();
+        }
     }
 
     public static void clearAll() {
+        activeHighlights.values().forEach(info -> info.mesh.close());
         activeHighlights.clear();
     }
 
     public static Map<BlockPos, HighlightInfo> getActiveHighlights() {
         // Remove expired highlights
-        activeHighlights.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        activeHighlights.values().removeIf(info -> {
+            if (info.isExpired()) {
+                info.mesh.close();
+                return true;
+            }
+            return false;
+        });
         return activeHighlights;
     }
 
@@ -0,0 +1,87 @@
+package com.gtceuterminal.client.renderer;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.ShaderInstance;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared helpers for baking block geometry into static vertex buffers
+ * Builders are pooled per render type so repeated bakes don't allocate native memory each time
+ */
+public final class BakedBuffers {
+
+    private static final Map<RenderType, BufferBuilder> BUILDERS = new HashMap<>();
+
+    private BakedBuffers() {}
+
+    // Pooled builder for the render type, started if it isn't already
+    public static BufferBuilder begin(RenderType renderType) {
+        BufferBuilder builder = BUILDERS.computeIfAbsent(renderType, t -> new BufferBuilder(t.bufferSize()));
+        if (!builder.building()) {
+            builder.begin(renderType.mode(), renderType.format());
+        }
+        return builder;
+    }
+
+    // Finish the render type's builder into a static buffer, null if nothing was written
+    @Nullable
+    public static VertexBuffer upload(RenderType renderType) {
+        BufferBuilder builder = BUILDERS.get(renderType);
+        if (builder == null || !builder.building()) {
+            return null;
+        }
+
+        BufferBuilder.RenderedBuffer rendered = builder.end();
+        if (rendered.isEmpty()) {
+            rendered.release();
+            return null;
+        }
+
+        VertexBuffer vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        vertexBuffer.bind();
+        vertexBuffer.upload(rendered);
+        VertexBuffer.unbind();
+        return vertexBuffer;
+    }
+
+    /**
+     * Set up the render type's state for drawing baked buffers
+     * @return the shader to draw with, or null if there is none (state is already cleared then)
+     */
+    @Nullable
+    public static ShaderInstance beginDraw(RenderType renderType) {
+        renderType.setupRenderState();
+        ShaderInstance shader = RenderSystem.getShader();
+        if (shader == null) {
+            renderType.clearRenderState();
+            return null;
+        }
+        // Offsets go through the pose, not the chunk uniform
+        if (shader.CHUNK_OFFSET != null) {
+            shader.CHUNK_OFFSET.set(0.0F, 0.0F, 0.0F);
+        }
+        return shader;
+    }
+
+    public static void endDraw(RenderType renderType) {
+        VertexBuffer.unbind();
+        renderType.clearRenderState();
+    }
+
+    // Drop the pooled builders (resource reload), abandoning any bake left half-done
+    public static void clear() {
+        for (BufferBuilder builder : BUILDERS.values()) {
+            if (builder.building()) {
+                builder.end().release();
+            }
+        }
+        BUILDERS.clear();
+    }
+}
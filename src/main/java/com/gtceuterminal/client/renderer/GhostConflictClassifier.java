@@ -0,0 +1,284 @@
+package com.gtceuterminal.client.renderer;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.ShaderInstance;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Classifies ghost blocks against the client world: would be placed, already matches, or
+ * blocked by something that can't be replaced (same rules as the server paste)
+ * Work is done per world chunk section. Sections that are all air, or whose palette holds
+ * nothing that could block or match, are settled from the palette without reading blocks.
+ * Moving the ghost reclassifies everything. Otherwise a fixed budget of sections is re-checked
+ * every frame, and only a section that actually changed is reclassified and re-tinted
+ */
+public class GhostConflictClassifier implements AutoCloseable {
+
+    public enum Kind { PLACE, MATCH, CONFLICT }
+
+    // Block reads spent re-checking sections per frame
+    private static final int VERIFY_BUDGET = 512;
+    private static final float INFLATE = 0.005F;
+
+    private GhostSchematicMesh mesh;
+    private BlockPos targetPos;
+    private final Long2ObjectMap<SectionState> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private long[] verifyOrder = new long[0];
+    private int verifyCursor;
+
+    public void update(ClientLevel level, GhostSchematicMesh mesh, BlockPos targetPos) {
+        if (mesh != this.mesh || !targetPos.equals(this.targetPos)) {
+            rebuild(level, mesh, targetPos);
+            return;
+        }
+
+        int budget = VERIFY_BUDGET;
+        for (int checked = 0; checked < verifyOrder.length && budget > 0; checked++) {
+            SectionState section = sections.get(verifyOrder[verifyCursor]);
+            verifyCursor = (verifyCursor + 1) % verifyOrder.length;
+            budget -= section.verifyCost();
+            if (section.isStale(level)) {
+                section.classify(level);
+                section.bake();
+            }
+        }
+    }
+
+    private void rebuild(ClientLevel level, GhostSchematicMesh mesh, BlockPos targetPos) {
+        close();
+        this.mesh = mesh;
+        this.targetPos = targetPos;
+
+        for (var block : mesh.getBlocks()) {
+            BlockPos worldPos = targetPos.offset(block.getKey());
+            sections.computeIfAbsent(SectionPos.asLong(worldPos), key -> new SectionState(SectionPos.of(key)))
+                    .add(worldPos, block.getValue());
+        }
+        for (SectionState section : sections.values()) {
+            section.classify(level);
+            section.bake();
+        }
+
+        verifyOrder = sections.keySet().toLongArray();
+        verifyCursor = 0;
+    }
+
+    public void render(PoseStack poseStack, Vec3 cameraPos, @Nullable Frustum frustum) {
+        RenderType renderType = RenderType.debugQuads();
+        ShaderInstance shader = null;
+
+        for (SectionState section : sections.values()) {
+            if (section.overlay == null || (frustum != null && !frustum.isVisible(section.bounds))) {
+                continue;
+            }
+            if (shader == null) {
+                shader = BakedBuffers.beginDraw(renderType);
+                if (shader == null) {
+                    return;
+                }
+            }
+
+            BlockPos origin = section.pos.origin();
+            poseStack.pushPose();
+            poseStack.translate(origin.getX() - cameraPos.x, origin.getY() - cameraPos.y, origin.getZ() - cameraPos.z);
+            section.overlay.bind();
+            section.overlay.drawWithShader(poseStack.last().pose(), RenderSystem.getProjectionMatrix(), shader);
+            poseStack.popPose();
+        }
+
+        if (shader != null) {
+            BakedBuffers.endDraw(renderType);
+        }
+    }
+
+    @Override
+    public void close() {
+        sections.values().forEach(SectionState::close);
+        sections.clear();
+        verifyOrder = new long[0];
+        mesh = null;
+        targetPos = null;
+    }
+
+    private static Kind classify(BlockState current, BlockState expected) {
+        if (current == expected) {
+            return Kind.MATCH;
+        }
+        return current.isAir() || current.canBeReplaced() ? Kind.PLACE : Kind.CONFLICT;
+    }
+
+    private enum Mode { OUT_OF_WORLD, UNLOADED, EMPTY, CLEAN_PALETTE, PER_BLOCK }
+
+    private static class SectionState {
+        private final SectionPos pos;
+        private final AABB bounds;
+        private final List<BlockPos> positions = new ArrayList<>();
+        private final List<BlockState> expected = new ArrayList<>();
+        private final Set<BlockState> expectedStates = Collections.newSetFromMap(new IdentityHashMap<>());
+        // A palette entry that could block or match means blocks have to be read one by one
+        private final Predicate<BlockState> relevant =
+                state -> expectedStates.contains(state) || !(state.isAir() || state.canBeReplaced());
+
+        private Mode mode;
+        private LevelChunk chunk;
+        private BlockState[] observed;
+        private Kind[] kinds = new Kind[0];
+        private VertexBuffer overlay;
+
+        SectionState(SectionPos pos) {
+            this.pos = pos;
+            BlockPos origin = pos.origin();
+            this.bounds = new AABB(origin, origin.offset(16, 16, 16));
+        }
+
+        void add(BlockPos worldPos, BlockState state) {
+            positions.add(worldPos);
+            expected.add(state);
+            expectedStates.add(state);
+        }
+
+        int verifyCost() {
+            return mode == Mode.PER_BLOCK ? positions.size() : 1;
+        }
+
+        @Nullable
+        private LevelChunkSection section() {
+            return chunk != null ? chunk.getSection(chunk.getSectionIndexFromSectionY(pos.y())) : null;
+        }
+
+        void classify(ClientLevel level) {
+            int size = positions.size();
+            kinds = new Kind[size];
+            observed = null;
+            chunk = level.getChunkSource().getChunk(pos.x(), pos.z(), false);
+
+            if (level.isOutsideBuildHeight(pos.minBlockY())) {
+                mode = Mode.OUT_OF_WORLD;
+                Arrays.fill(kinds, Kind.CONFLICT);
+                return;
+            }
+            LevelChunkSection section = section();
+            if (section == null) {
+                // Not loaded here, the server decides
+                mode = Mode.UNLOADED;
+                Arrays.fill(kinds, Kind.PLACE);
+                return;
+            }
+            if (section.hasOnlyAir()) {
+                mode = Mode.EMPTY;
+                Arrays.fill(kinds, Kind.PLACE);
+                return;
+            }
+            if (!section.getStates().maybeHas(relevant)) {
+                mode = Mode.CLEAN_PALETTE;
+                Arrays.fill(kinds, Kind.PLACE);
+                return;
+            }
+
+            mode = Mode.PER_BLOCK;
+            observed = new BlockState[size];
+            for (int i = 0; i < size; i++) {
+                BlockPos worldPos = positions.get(i);
+                BlockState current = section.getBlockState(worldPos.getX() & 15, worldPos.getY() & 15, worldPos.getZ() & 15);
+                observed[i] = current;
+                kinds[i] = GhostConflictClassifier.classify(current, expected.get(i));
+            }
+        }
+
+        boolean isStale(ClientLevel level) {
+            // Chunk (re)loaded or unloaded since the last pass
+            if (level.getChunkSource().getChunk(pos.x(), pos.z(), false) != chunk) {
+                return true;
+            }
+
+            LevelChunkSection section = section();
+            return switch (mode) {
+                case OUT_OF_WORLD, UNLOADED -> false;
+                case EMPTY -> section == null || !section.hasOnlyAir();
+                case CLEAN_PALETTE -> section == null || section.getStates().maybeHas(relevant);
+                case PER_BLOCK -> {
+                    if (section == null) yield true;
+                    for (int i = 0; i < observed.length; i++) {
+                        BlockPos worldPos = positions.get(i);
+                        if (section.getBlockState(worldPos.getX() & 15, worldPos.getY() & 15, worldPos.getZ() & 15) != observed[i]) {
+                            yield true;
+                        }
+                    }
+                    yield false;
+                }
+            };
+        }
+
+        // Tinted boxes over every block that won't simply be placed
+        void bake() {
+            close();
+            if (Arrays.stream(kinds).allMatch(kind -> kind == Kind.PLACE)) {
+                return;
+            }
+
+            RenderType renderType = RenderType.debugQuads();
+            BufferBuilder builder = BakedBuffers.begin(renderType);
+            BlockPos origin = pos.origin();
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] == Kind.PLACE) {
+                    continue;
+                }
+                BlockPos worldPos = positions.get(i);
+                boolean conflict = kinds[i] == Kind.CONFLICT;
+                addBox(builder,
+                        worldPos.getX() - origin.getX(), worldPos.getY() - origin.getY(), worldPos.getZ() - origin.getZ(),
+                        conflict ? 1.0F : 0.2F, conflict ? 0.2F : 1.0F, 0.2F, conflict ? 0.4F : 0.2F);
+            }
+            overlay = BakedBuffers.upload(renderType);
+        }
+
+        void close() {
+            if (overlay != null) {
+                overlay.close();
+                overlay = null;
+            }
+        }
+
+        private static void addBox(BufferBuilder builder, float x, float y, float z, float r, float g, float b, float a) {
+            float x0 = x - INFLATE, y0 = y - INFLATE, z0 = z - INFLATE;
+            float x1 = x + 1 + INFLATE, y1 = y + 1 + INFLATE, z1 = z + 1 + INFLATE;
+            // Down, up, north, south, west, east
+            quad(builder, x0, y0, z0, x1, y0, z0, x1, y0, z1, x0, y0, z1, r, g, b, a);
+            quad(builder, x0, y1, z0, x0, y1, z1, x1, y1, z1, x1, y1, z0, r, g, b, a);
+            quad(builder, x0, y0, z0, x0, y1, z0, x1, y1, z0, x1, y0, z0, r, g, b, a);
+            quad(builder, x0, y0, z1, x1, y0, z1, x1, y1, z1, x0, y1, z1, r, g, b, a);
+            quad(builder, x0, y0, z0, x0, y0, z1, x0, y1, z1, x0, y1, z0, r, g, b, a);
+            quad(builder, x1, y0, z0, x1, y1, z0, x1, y1, z1, x1, y0, z1, r, g, b, a);
+        }
+
+        private static void quad(BufferBuilder builder,
+                                 float ax, float ay, float az, float bx, float by, float bz,
+                                 float cx, float cy, float cz, float dx, float dy, float dz,
+                                 float r, float g, float b, float a) {
+            builder.vertex(ax, ay, az).color(r, g, b, a).endVertex();
+            builder.vertex(bx, by, bz).color(r, g, b, a).endVertex();
+            builder.vertex(cx, cy, cz).color(r, g, b, a).endVertex();
+            builder.vertex(dx, dy, dz).color(r, g, b, a).endVertex();
+        }
+    }
+}
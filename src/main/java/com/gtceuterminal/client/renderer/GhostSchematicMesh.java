@@ -0,0 +1,283 @@
+package com.gtceuterminal.client.renderer;
+
+import com.gtceuterminal.common.data.SchematicData;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.ShaderInstance;
+import net.minecraft.client.renderer.block.BlockRenderDispatcher;
+import net.minecraft.client.renderer.block.ModelBlockRenderer;
+import net.minecraft.client.renderer.culling.Frustum;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.model.data.ModelData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A schematic baked once, for one rotation, into static vertex buffers
+ * One buffer per render type per 16³ section, with vertices relative to the section origin.
+ * Sections outside the camera frustum are skipped, and far ones are drawn as an outline in
+ * their most common map colour instead of full geometry.
+ * Blocks without a baked model (animated block entities) are kept aside and drawn immediately
+ */
+public class GhostSchematicMesh implements AutoCloseable {
+
+    private static final int FULL_BRIGHT = 15728880;
+    // Sections whose closest point is farther than this are drawn as outlines
+    private static final double LOD_DISTANCE = 48.0;
+
+    // Every rotated block, rendered or not
+    private final List<Map.Entry<BlockPos, BlockState>> blocks;
+    private final List<Section> sections;
+    private final Map<RenderType, List<Section>> byRenderType;
+    private final List<Map.Entry<BlockPos, BlockState>> dynamicBlocks;
+
+    private GhostSchematicMesh(List<Map.Entry<BlockPos, BlockState>> blocks, List<Section> sections,
+                               Map<RenderType, List<Section>> byRenderType,
+                               List<Map.Entry<BlockPos, BlockState>> dynamicBlocks) {
+        this.blocks = blocks;
+        this.sections = sections;
+        this.byRenderType = byRenderType;
+        this.dynamicBlocks = dynamicBlocks;
+    }
+
+    public static GhostSchematicMesh bake(SchematicData schematic, int rotationSteps, Minecraft minecraft) {
+        BlockRenderDispatcher dispatcher = minecraft.getBlockRenderer();
+        ModelBlockRenderer modelRenderer = dispatcher.getModelRenderer();
+
+        // Rotate once and sort the blocks into sections
+        Long2ObjectMap<List<Map.Entry<BlockPos, BlockState>>> sections = new Long2ObjectOpenHashMap<>();
+        List<Map.Entry<BlockPos, BlockState>> dynamicBlocks = new ArrayList<>();
+        List<Map.Entry<BlockPos, BlockState>> blocks = new ArrayList<>(schematic.getBlockCount());
+        for (var entry : schematic.getBlocks().entrySet()) {
+            BlockPos pos = SchematicPreviewRenderer.rotatePositionSteps(entry.getKey(), rotationSteps);
+            BlockState state = SchematicPreviewRenderer.rotateBlockStateSteps(entry.getValue(), rotationSteps);
+            blocks.add(Map.entry(pos, state));
+
+            RenderShape shape = state.getRenderShape();
+            if (shape == RenderShape.MODEL) {
+                sections.computeIfAbsent(SectionPos.asLong(pos), k -> new ArrayList<>()).add(Map.entry(pos, state));
+            } else if (shape == RenderShape.ENTITYBLOCK_ANIMATED) {
+                dynamicBlocks.add(Map.entry(pos, state));
+            }
+        }
+
+        List<Section> baked = new ArrayList<>();
+        Map<RenderType, List<Section>> byRenderType = new LinkedHashMap<>();
+        for (RenderType renderType : RenderType.chunkBufferLayers()) {
+            byRenderType.put(renderType, new ArrayList<>());
+        }
+
+        PoseStack poseStack = new PoseStack();
+        RandomSource random = RandomSource.create();
+        Set<RenderType> begun = new HashSet<>();
+
+        for (Long2ObjectMap.Entry<List<Map.Entry<BlockPos, BlockState>>> section : sections.long2ObjectEntrySet()) {
+            begun.clear();
+            BlockPos origin = SectionPos.of(section.getLongKey()).origin();
+            int minX = 16, minY = 16, minZ = 16, maxX = 0, maxY = 0, maxZ = 0;
+            Int2IntMap colours = new Int2IntOpenHashMap();
+
+            for (var block : section.getValue()) {
+                BlockPos pos = block.getKey();
+                BlockState state = block.getValue();
+                BakedModel model = dispatcher.getBlockModel(state);
+
+                minX = Math.min(minX, pos.getX() & 15);
+                minY = Math.min(minY, pos.getY() & 15);
+                minZ = Math.min(minZ, pos.getZ() & 15);
+                maxX = Math.max(maxX, pos.getX() & 15);
+                maxY = Math.max(maxY, pos.getY() & 15);
+                maxZ = Math.max(maxZ, pos.getZ() & 15);
+                int mapColour = state.getMapColor(EmptyBlockGetter.INSTANCE, BlockPos.ZERO).col;
+                if (mapColour != 0) {
+                    colours.mergeInt(mapColour, 1, Integer::sum);
+                }
+
+                int color = minecraft.getBlockColors().getColor(state, null, null, 0);
+                float r = (color >> 16 & 255) / 255.0F;
+                float g = (color >> 8 & 255) / 255.0F;
+                float b = (color & 255) / 255.0F;
+
+                poseStack.pushPose();
+                poseStack.translate(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+
+                random.setSeed(42L);
+                for (RenderType renderType : model.getRenderTypes(state, random, ModelData.EMPTY)) {
+                    BufferBuilder builder = BakedBuffers.begin(renderType);
+                    begun.add(renderType);
+                    try {
+                        modelRenderer.renderModel(poseStack.last(), builder, state, model, r, g, b,
+                                FULL_BRIGHT, OverlayTexture.NO_OVERLAY, ModelData.EMPTY, renderType);
+                    } catch (Exception ignored) {
+                        // Skip rendering this block if there's an error
+                    }
+                }
+
+                poseStack.popPose();
+            }
+
+            AABB bounds = new AABB(origin.getX() + minX, origin.getY() + minY, origin.getZ() + minZ,
+                    origin.getX() + maxX + 1, origin.getY() + maxY + 1, origin.getZ() + maxZ + 1);
+            Section baking = new Section(baked.size(), origin, bounds, dominantColour(colours));
+            for (RenderType renderType : begun) {
+                VertexBuffer vertexBuffer = BakedBuffers.upload(renderType);
+                if (vertexBuffer != null) {
+                    baking.buffers.put(renderType, vertexBuffer);
+                    byRenderType.computeIfAbsent(renderType, t -> new ArrayList<>()).add(baking);
+                }
+            }
+            baked.add(baking);
+        }
+
+        byRenderType.values().removeIf(List::isEmpty);
+        return new GhostSchematicMesh(blocks, baked, byRenderType, dynamicBlocks);
+    }
+
+    // Rotated blocks relative to the schematic origin
+    public List<Map.Entry<BlockPos, BlockState>> getBlocks() {
+        return blocks;
+    }
+
+    private static int dominantColour(Int2IntMap colours) {
+        int best = 0xA0A0A0;
+        int bestCount = 0;
+        for (Int2IntMap.Entry entry : colours.int2IntEntrySet()) {
+            if (entry.getIntValue() > bestCount) {
+                best = entry.getIntKey();
+                bestCount = entry.getIntValue();
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Draw the cached buffers with the schematic origin at targetPos
+     * @param frustum the camera frustum, null to skip culling
+     */
+    public void render(PoseStack poseStack, MultiBufferSource bufferSource, BlockPos targetPos, Vec3 cameraPos,
+                       @Nullable Frustum frustum, BlockRenderDispatcher blockRenderer) {
+        // Classify every section once: culled, far (outline only) or near (full geometry)
+        boolean[] detailed = new boolean[sections.size()];
+        List<Section> coarse = new ArrayList<>();
+        for (Section section : sections) {
+            AABB worldBounds = section.bounds().move(targetPos);
+            if (frustum != null && !frustum.isVisible(worldBounds)) {
+                continue;
+            }
+            if (distanceSqr(worldBounds, cameraPos) > LOD_DISTANCE * LOD_DISTANCE) {
+                coarse.add(section);
+            } else {
+                detailed[section.index()] = true;
+            }
+        }
+
+        for (Map.Entry<RenderType, List<Section>> entry : byRenderType.entrySet()) {
+            RenderType renderType = entry.getKey();
+            ShaderInstance shader = null;
+
+            for (Section section : entry.getValue()) {
+                if (!detailed[section.index()]) {
+                    continue;
+                }
+                if (shader == null) {
+                    shader = BakedBuffers.beginDraw(renderType);
+                    if (shader == null) {
+                        break;
+                    }
+                }
+                poseStack.pushPose();
+                poseStack.translate(
+                        targetPos.getX() + section.origin().getX() - cameraPos.x,
+                        targetPos.getY() + section.origin().getY() - cameraPos.y,
+                        targetPos.getZ() + section.origin().getZ() - cameraPos.z
+                );
+                VertexBuffer vertexBuffer = section.buffers().get(renderType);
+                vertexBuffer.bind();
+                vertexBuffer.drawWithShader(poseStack.last().pose(), RenderSystem.getProjectionMatrix(), shader);
+                poseStack.popPose();
+            }
+
+            if (shader != null) {
+                BakedBuffers.endDraw(renderType);
+            }
+        }
+
+        if (!coarse.isEmpty()) {
+            VertexConsumer lines = bufferSource.getBuffer(RenderType.lines());
+            for (Section section : coarse) {
+                int colour = section.colour();
+                AABB box = section.bounds().move(targetPos).move(-cameraPos.x, -cameraPos.y, -cameraPos.z);
+                LevelRenderer.renderLineBox(poseStack, lines, box,
+                        (colour >> 16 & 255) / 255.0F, (colour >> 8 & 255) / 255.0F, (colour & 255) / 255.0F, 1.0F);
+            }
+        }
+
+        for (var block : dynamicBlocks) {
+            BlockPos worldPos = targetPos.offset(block.getKey());
+            if (frustum != null && !frustum.isVisible(new AABB(worldPos))) {
+                continue;
+            }
+            poseStack.pushPose();
+            poseStack.translate(
+                    worldPos.getX() - cameraPos.x,
+                    worldPos.getY() - cameraPos.y,
+                    worldPos.getZ() - cameraPos.z
+            );
+            try {
+                blockRenderer.renderSingleBlock(block.getValue(), poseStack, bufferSource, FULL_BRIGHT,
+                        OverlayTexture.NO_OVERLAY);
+            } catch (Exception ignored) {
+            }
+            poseStack.popPose();
+        }
+    }
+
+    private static double distanceSqr(AABB box, Vec3 point) {
+        double dx = Math.max(0.0, Math.max(box.minX - point.x, point.x - box.maxX));
+        double dy = Math.max(0.0, Math.max(box.minY - point.y, point.y - box.maxY));
+        double dz = Math.max(0.0, Math.max(box.minZ - point.z, point.z - box.maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @Override
+    public void close() {
+        sections.forEach(section -> section.buffers().values().forEach(VertexBuffer::close));
+        sections.clear();
+        byRenderType.clear();
+    }
+
+    /**
+     * One baked 16³ section
+     * @param bounds tight block bounds, relative to the schematic origin
+     * @param colour most common map colour, used for the far outline
+     */
+    private record Section(int index, BlockPos origin, AABB bounds, int colour, Map<RenderType, VertexBuffer> buffers) {
+        Section(int index, BlockPos origin, AABB bounds, int colour) {
+            this(index, origin, bounds, colour, new HashMap<>());
+        }
+    }
+}
@@ -6,8 +6,7 @@ import com.mojang.blaze3d.vertex.PoseStack;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.MultiBufferSource;
-import net.minecraft.client.renderer.block.BlockRenderDispatcher;
-import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -15,17 +14,31 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 
 // Renders a schematic preview as ghost blocks in the world
 public class SchematicPreviewRenderer {
 
+    // Decoded clipboard and its baked meshes, kept until the clipboard tag changes
+    private static CompoundTag cachedTag;
+    private static int cachedHash;
+    private static SchematicData cachedSchematic;
+    private static final GhostSchematicMesh[] cachedMeshes = new GhostSchematicMesh[4];
+    // Place / match / conflict tint for the current target, kept up to date incrementally
+    private static final GhostConflictClassifier conflicts = new GhostConflictClassifier();
+
     public static void renderGhostBlocks(PoseStack poseStack,
                                          MultiBufferSource bufferSource,
-                                         SchematicData schematic,
+                                         CompoundTag clipboardTag,
                                          Minecraft minecraft,
-                                         CompoundTag clipboardTag) {
-        if (schematic == null || schematic.getBlocks().isEmpty() || minecraft.level == null || minecraft.player == null) {
+                                         @Nullable Frustum frustum) {
+        if (minecraft.level == null || minecraft.player == null) {
+            return;
+        }
+
+        SchematicData schematic = getSchematic(clipboardTag, minecraft);
+        if (schematic == null || schematic.getBlocks().isEmpty()) {
             return;
         }
 
@@ -56,46 +69,52 @@ public class SchematicPreviewRenderer {
 
         int rotationSteps = getRotationSteps(originalFacing, targetFacing);
 
-        BlockRenderDispatcher blockRenderer = minecraft.getBlockRenderer();
-
-        // Render each block in the schematic
-        for (var entry : schematic.getBlocks().entrySet()) {
-            BlockPos relativePos = entry.getKey();
-            BlockState state = entry.getValue();
-
-            BlockPos rotatedPos = rotatePositionSteps(relativePos, rotationSteps);
-            BlockPos worldPos = targetPos.offset(rotatedPos);
-
-            BlockState rotatedState = rotateBlockStateSteps(state, rotationSteps);
-
-            poseStack.pushPose();
-            poseStack.translate(
-                    worldPos.getX() - cameraPos.x,
-                    worldPos.getY() - cameraPos.y,
-                    worldPos.getZ() - cameraPos.z
-            );
-
-            try {
-                blockRenderer.renderSingleBlock(
-                        rotatedState,
-                        poseStack,
-                        bufferSource,
-                        15728880,  // full bright
-                        OverlayTexture.NO_OVERLAY
-                );
-            } catch (Exception ignored) {
-                // Skip rendering this block if there's an error
+        // Each rotation is baked the first time it's needed
+        GhostSchematicMesh mesh = cachedMeshes[rotationSteps];
+        if (mesh == null) {
+            mesh = GhostSchematicMesh.bake(schematic, rotationSteps, minecraft);
+            cachedMeshes[rotationSteps] = mesh;
+        }
+
+        mesh.render(poseStack, bufferSource, targetPos, cameraPos, frustum, minecraft.getBlockRenderer());
+
+        conflicts.update(minecraft.level, mesh, targetPos);
+        conflicts.render(poseStack, cameraPos, frustum);
+    }
+
+    // Drop the decoded clipboard and free the baked buffers
+    public static void clearCache() {
+        conflicts.close();
+        for (int i = 0; i < cachedMeshes.length; i++) {
+            if (cachedMeshes[i] != null) {
+                cachedMeshes[i].close();
+                cachedMeshes[i] = null;
             }
+        }
+        cachedTag = null;
+        cachedSchematic = null;
+    }
 
-            poseStack.popPose();
+    private static SchematicData getSchematic(CompoundTag clipboardTag, Minecraft minecraft) {
+        // Same tag instance means nothing changed. A new instance (item re-synced) is only decoded
+        // again if its contents hash differently
+        if (clipboardTag != cachedTag) {
+            int hash = clipboardTag.hashCode();
+            if (cachedSchematic == null || hash != cachedHash) {
+                clearCache();
+                cachedSchematic = SchematicData.fromNBT(clipboardTag, minecraft.level.registryAccess());
+                cachedHash = hash;
+            }
+            cachedTag = clipboardTag;
         }
+        return cachedSchematic;
     }
 
     private static int getRotationSteps(Direction from, Direction to) {
         return (to.get2DDataValue() - from.get2DDataValue() + 4) % 4;
     }
 
-    private static BlockPos rotatePositionSteps(BlockPos pos, int steps) {
+    static BlockPos rotatePositionSteps(BlockPos pos, int steps) {
         BlockPos result = pos;
         for (int i = 0; i < steps; i++) {
             // (x, z) -> (-z, x)
@@ -104,7 +123,7 @@ public class SchematicPreviewRenderer {
         return result;
     }
 
-    private static BlockState rotateBlockStateSteps(BlockState state, int steps) {
+    static BlockState rotateBlockStateSteps(BlockState state, int steps) {
         BlockState result = state;
         for (int i = 0; i < steps; i++) {
             result = rotateBlockStateOnce(result);
@@ -0,0 +1,50 @@
+package com.gtceuterminal.common;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.ae2.AE2Integration;
+import com.gtceuterminal.common.ae2.MEGridLocator;
+import com.gtceuterminal.common.ae2.MECraftingPlanner;
+import com.gtceuterminal.common.network.CPacketMaterialAvailabilityRequest;
+
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+@Mod.EventBusSubscriber(modid = GTCEUTerminalMod.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public class ServerEvents {
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+
+        if (AE2Integration.isAE2Loaded()) {
+            MECraftingPlanner.tick(event.getServer());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        CPacketMaterialAvailabilityRequest.forget(event.getEntity().getUUID());
+        MEGridLocator.invalidate(event.getEntity());
+        if (AE2Integration.isAE2Loaded()) {
+            MECraftingPlanner.cancel(event.getEntity().getUUID());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        MEGridLocator.invalidate(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        MEGridLocator.clear();
+        if (AE2Integration.isAE2Loaded()) {
+            MECraftingPlanner.cancelAll();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.gtceuterminal.common.ae2;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Typed access to AE2 grids for code that must also run without AE2 installed
+ * Grids are passed around as opaque handles so callers never touch AE2 classes;
+ * obtain the active bridge through {@link AE2Integration#getBridge()}
+ */
+public interface AE2Bridge {
+
+    boolean isAvailable();
+
+    // Whether the block entity is part of an ME network (cable, part host, machine...)
+    boolean isGridHost(BlockEntity be);
+
+    // Opaque grid handle for the block entity, compare by identity. Null if it has no active grid
+    @Nullable
+    Object getGrid(BlockEntity be);
+
+    // Amounts of the given items stored in the grid, read from one snapshot
+    Map<Item, Long> countItems(Object grid, Collection<Item> items);
+
+    // Whether the grid's security lets the player take items out of it
+    boolean canExtract(Object grid, Player player);
+
+    // Extract up to amount items from the grid on behalf of the player, returns the amount extracted
+    long extractItem(Object grid, Item item, long amount, Player player, boolean simulate);
+}
@@ -0,0 +1,95 @@
+package com.gtceuterminal.common.ae2;
+
+import appeng.api.config.Actionable;
+import appeng.api.config.SecurityPermissions;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IInWorldGridNodeHost;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.security.ISecurityService;
+import appeng.api.networking.storage.IStorageService;
+import appeng.api.stacks.AEItemKey;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * AE2 bridge backed by the 1.20 API (IGridNode / IStorageService / AEItemKey)
+ * Only instantiated by {@link AE2Integration} when AE2 is loaded
+ */
+public class AE2BridgeImpl implements AE2Bridge {
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public boolean isGridHost(BlockEntity be) {
+        return be instanceof IInWorldGridNodeHost;
+    }
+
+    @Override
+    @Nullable
+    public Object getGrid(BlockEntity be) {
+        if (!(be instanceof IInWorldGridNodeHost host)) {
+            return null;
+        }
+
+        // Cable buses expose their main node on the null side, other hosts on any side
+        IGridNode node = host.getGridNode(null);
+        if (node == null) {
+            for (Direction side : Direction.values()) {
+                node = host.getGridNode(side);
+                if (node != null) break;
+            }
+        }
+
+        if (node == null || !node.isActive()) {
+            return null;
+        }
+
+        return node.getGrid();
+    }
+
+    @Override
+    public Map<Item, Long> countItems(Object grid, Collection<Item> items) {
+        return MENetworkItemExtractor.getItemCounts((IGrid) grid, items);
+    }
+
+    @Override
+    public boolean canExtract(Object grid, Player player) {
+        // Without a security terminal AE2 lets everyone in, hasPermission covers both cases
+        ISecurityService security = ((IGrid) grid).getSecurityService();
+        return security == null || security.hasPermission(player, SecurityPermissions.EXTRACT);
+    }
+
+    @Override
+    public long extractItem(Object grid, Item item, long amount, Player player, boolean simulate) {
+        IGrid meGrid = (IGrid) grid;
+        IStorageService storage = meGrid.getStorageService();
+        AEItemKey key = AEItemKey.of(item);
+        if (storage == null || key == null || amount <= 0 || !canExtract(grid, player)) {
+            return 0;
+        }
+
+        long extracted = storage.getInventory().extract(
+                key,
+                amount,
+                simulate ? Actionable.SIMULATE : Actionable.MODULATE,
+                IActionSource.ofPlayer(player)
+        );
+
+        if (!simulate && extracted > 0) {
+            MEAvailabilityCache.invalidate(meGrid);
+        }
+
+        return extracted;
+    }
+}
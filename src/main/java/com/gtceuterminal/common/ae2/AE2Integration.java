@@ -4,6 +4,9 @@ import appeng.api.features.GridLinkables;
 
 import com.gtceuterminal.GTCEUTerminalMod;
 import com.gtceuterminal.common.data.GTCEUTerminalItems;
+import com.gtceuterminal.common.material.MaterialSources;
+
+import net.minecraftforge.fml.ModList;
 
 /**
  * Registers GTCEu Terminal items with AE2's GridLinkables system
@@ -11,7 +14,10 @@ import com.gtceuterminal.common.data.GTCEUTerminalItems;
  */
 public class AE2Integration {
 
+    public static final String AE2_MOD_ID = "ae2";
+
     private static boolean initialized = false;
+    private static AE2Bridge bridge;
 
     /**
      * Initialize AE2 integration
@@ -22,6 +28,14 @@ public class AE2Integration {
             return;
         }
 
+        if (!isAE2Loaded()) {
+            GTCEUTerminalMod.LOGGER.info("AE2 not detected - ME Network integration disabled");
+            return;
+        }
+
+        MaterialSources.register(MaterialSources.PRIORITY_ME_NETWORK, MEGridSource::collectLinked);
+        MaterialSources.register(MaterialSources.PRIORITY_NEARBY_ME_NETWORK, MEGridSource::collectNearby);
+
         try {
             // Create the handler
             TerminalGridLinkableHandler handler = new TerminalGridLinkableHandler();
@@ -46,4 +60,19 @@ public class AE2Integration {
     public static boolean isInitialized() {
         return initialized;
     }
+
+    public static boolean isAE2Loaded() {
+        return ModList.get().isLoaded(AE2_MOD_ID);
+    }
+
+    /**
+     * Get the AE2 bridge for this session
+     * AE2BridgeImpl is only referenced when AE2 is present, so its classes are never loaded otherwise
+     */
+    public static AE2Bridge getBridge() {
+        if (bridge == null) {
+            bridge = isAE2Loaded() ? new AE2BridgeImpl() : new NoopAE2Bridge();
+        }
+        return bridge;
+    }
 }
\ No newline at end of file
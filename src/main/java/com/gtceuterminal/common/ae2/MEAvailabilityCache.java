@@ -0,0 +1,115 @@
+package com.gtceuterminal.common.ae2;
+
+import appeng.api.networking.IGrid;
+
+import net.minecraft.world.item.Item;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Short-lived per-player, per-grid cache of ME item counts
+ * Material displays are rebuilt often (tier switches, dialog reopen, scrolling),
+ * so counts are kept for TTL_MS and dropped as soon as we extract from the grid
+ */
+public class MEAvailabilityCache {
+
+    private static final long TTL_MS = 1000;
+
+    private static final Map<Key, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final Map<UUID, List<Consumer<IGrid>>> LISTENERS = new ConcurrentHashMap<>();
+
+    // Get counts for the given items, only querying the grid for expired or unknown items
+    public static Map<Item, Long> getItemCounts(UUID playerId, IGrid grid, Collection<Item> items) {
+        long now = System.currentTimeMillis();
+        pruneExpired(now);
+
+        Key key = new Key(playerId, grid);
+        Entry entry = CACHE.computeIfAbsent(key, k -> new Entry(now));
+
+        List<Item> missing = new ArrayList<>();
+        for (Item item : items) {
+            if (!entry.counts.containsKey(item)) {
+                missing.add(item);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            entry.counts.putAll(MENetworkItemExtractor.getItemCounts(grid, missing));
+        }
+
+        Map<Item, Long> result = new HashMap<>();
+        for (Item item : items) {
+            result.put(item, entry.counts.getOrDefault(item, 0L));
+        }
+        return result;
+    }
+
+    // Drop every cached snapshot of this grid and notify subscribers - call after extracting or inserting
+    public static void invalidate(IGrid grid) {
+        if (grid == null) {
+            return;
+        }
+
+        Iterator<Map.Entry<Key, Entry>> it = CACHE.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> cached = it.next();
+            if (cached.getKey().grid == grid) {
+                it.remove();
+                notifyListeners(cached.getKey().playerId, grid);
+            }
+        }
+    }
+
+    // Subscribe to invalidations of any grid this player has cached counts for
+    public static void subscribe(UUID playerId, Consumer<IGrid> listener) {
+        LISTENERS.computeIfAbsent(playerId, id -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public static void unsubscribe(UUID playerId, Consumer<IGrid> listener) {
+        List<Consumer<IGrid>> listeners = LISTENERS.get(playerId);
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                LISTENERS.remove(playerId);
+            }
+        }
+    }
+
+    private static void notifyListeners(UUID playerId, IGrid grid) {
+        List<Consumer<IGrid>> listeners = LISTENERS.get(playerId);
+        if (listeners != null) {
+            for (Consumer<IGrid> listener : listeners) {
+                listener.accept(grid);
+            }
+        }
+    }
+
+    private static void pruneExpired(long now) {
+        CACHE.values().removeIf(entry -> now - entry.createdAt > TTL_MS);
+    }
+
+    // Grid is compared by identity: a rebuilt grid is a different network as far as the cache is concerned
+    private record Key(UUID playerId, IGrid grid) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && playerId.equals(other.playerId) && grid == other.grid;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * playerId.hashCode() + System.identityHashCode(grid);
+        }
+    }
+
+    private static class Entry {
+        final long createdAt;
+        final Map<Item, Long> counts = new ConcurrentHashMap<>();
+
+        Entry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
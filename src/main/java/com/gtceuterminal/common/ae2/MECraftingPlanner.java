@@ -0,0 +1,257 @@
+package com.gtceuterminal.common.ae2;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.crafting.CalculationStrategy;
+import appeng.api.networking.crafting.ICraftingLink;
+import appeng.api.networking.crafting.ICraftingPlan;
+import appeng.api.networking.crafting.ICraftingService;
+import appeng.api.networking.crafting.ICraftingSimulationRequester;
+import appeng.api.networking.crafting.ICraftingSubmitResult;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Crafting-aware material planning
+ * When an upgrade or paste is short on materials, what the reservation couldn't cover is submitted
+ * to the grid's ICraftingService as one batched plan (one job per item, spread over the available CPUs).
+ * The plan is ticked on the server; once the grid no longer requests any of the submitted outputs
+ * the pending action is resumed for the player, who no longer has to visit a crafting terminal
+ */
+public class MECraftingPlanner {
+
+    private static final String TAG_AUTO_CRAFT = "AutoCraftMissing";
+    private static final long PLAN_TIMEOUT_MS = 10 * 60 * 1000;
+
+    private static final Map<UUID, CraftingPlan> ACTIVE_PLANS = new HashMap<>();
+
+    // Whether the terminal is set to request autocrafting for missing materials
+    public static boolean isAutoCraftEnabled(ItemStack terminal) {
+        return terminal != null && terminal.hasTag() && terminal.getTag().getBoolean(TAG_AUTO_CRAFT);
+    }
+
+    public static boolean hasActivePlan(Player player) {
+        return ACTIVE_PLANS.containsKey(player.getUUID());
+    }
+
+    /**
+     * Plan missing materials on the grid the terminal is wirelessly linked to
+     * Does nothing unless the terminal has autocrafting enabled
+     */
+    public static boolean planForTerminal(ItemStack terminal, ServerPlayer player, Map<Item, Long> missing,
+                                          Consumer<ServerPlayer> onComplete) {
+        if (!isAutoCraftEnabled(terminal)) {
+            return false;
+        }
+
+        IGrid grid = WirelessTerminalHandler.getLinkedGrid(terminal, player.level(), player);
+        return planMissing(grid, player, missing, onComplete);
+    }
+
+    /**
+     * Request crafting for the amounts a reservation came up short on
+     * Nothing is submitted unless every missing item has a pattern
+     * @param onComplete run on the server thread once all crafted outputs are in the network
+     * @return true if a plan was started
+     */
+    public static boolean planMissing(IGrid grid, ServerPlayer player, Map<Item, Long> missing,
+                                      Consumer<ServerPlayer> onComplete) {
+        if (grid == null || hasActivePlan(player)) {
+            return false;
+        }
+
+        ICraftingService crafting = grid.getCraftingService();
+
+        // The reservation already counted ME stock along with every other source, so the
+        // shortfall is exactly what has to be crafted
+        Map<AEItemKey, Long> toCraft = new LinkedHashMap<>();
+        for (Map.Entry<Item, Long> entry : missing.entrySet()) {
+            long delta = entry.getValue();
+            if (delta <= 0) continue;
+
+            AEItemKey key = AEItemKey.of(entry.getKey());
+            if (key == null || !crafting.isCraftable(key)) {
+                GTCEUTerminalMod.LOGGER.info("Cannot autocraft {}: no pattern", entry.getKey());
+                return false;
+            }
+            toCraft.put(key, delta);
+        }
+
+        if (toCraft.isEmpty()) {
+            return false;
+        }
+
+        IActionSource source = IActionSource.ofPlayer(player);
+        ICraftingSimulationRequester requester = new ICraftingSimulationRequester() {
+            @Override
+            public @Nullable IActionSource getActionSource() {
+                return source;
+            }
+        };
+
+        CraftingPlan plan = new CraftingPlan(grid, player.getUUID(), source, onComplete);
+        for (Map.Entry<AEItemKey, Long> entry : toCraft.entrySet()) {
+            plan.calculations.put(entry.getKey(), crafting.beginCraftingCalculation(
+                    player.level(), requester, entry.getKey(), entry.getValue(),
+                    CalculationStrategy.REPORT_MISSING_ITEMS));
+        }
+
+        ACTIVE_PLANS.put(player.getUUID(), plan);
+        GTCEUTerminalMod.LOGGER.info("Started crafting plan for {}: {} item types",
+                player.getName().getString(), toCraft.size());
+        return true;
+    }
+
+    // Drive every active plan one step. Called once per server tick
+    // Drop the player's plan, e.g. when they log out; its calculations and jobs are cancelled
+    public static void cancel(UUID playerId) {
+        CraftingPlan plan = ACTIVE_PLANS.remove(playerId);
+        if (plan != null) {
+            plan.cancel();
+        }
+    }
+
+    // Cancel every plan, the grids and players they point at go away with the server
+    public static void cancelAll() {
+        ACTIVE_PLANS.values().forEach(CraftingPlan::cancel);
+        ACTIVE_PLANS.clear();
+    }
+
+    public static void tick(MinecraftServer server) {
+        if (ACTIVE_PLANS.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<ServerPlayer, CraftingPlan> completed = new LinkedHashMap<>();
+        Iterator<CraftingPlan> it = ACTIVE_PLANS.values().iterator();
+        while (it.hasNext()) {
+            CraftingPlan plan = it.next();
+            ServerPlayer player = server.getPlayerList().getPlayer(plan.playerId);
+
+            String failure = null;
+            if (player == null) {
+                failure = "player left";
+            } else if (now - plan.startedAt > PLAN_TIMEOUT_MS) {
+                failure = "timed out";
+            } else {
+                failure = plan.advance();
+            }
+
+            if (failure != null) {
+                plan.cancel();
+                it.remove();
+                GTCEUTerminalMod.LOGGER.info("Crafting plan aborted: {}", failure);
+                if (player != null) {
+                    player.displayClientMessage(Component.literal("§cAutocrafting failed: " + failure), false);
+                }
+                continue;
+            }
+
+            if (plan.isDone()) {
+                it.remove();
+                completed.put(player, plan);
+            }
+        }
+
+        // Resume outside the iteration: the resumed action may start a new plan
+        completed.forEach((player, plan) -> {
+            MEAvailabilityCache.invalidate(plan.grid);
+            player.displayClientMessage(Component.literal("§aAutocrafting finished, resuming..."), true);
+            try {
+                plan.onComplete.accept(player);
+            } catch (Exception e) {
+                GTCEUTerminalMod.LOGGER.error("Error resuming action after crafting", e);
+            }
+        });
+    }
+
+    private static class CraftingPlan {
+        final IGrid grid;
+        final UUID playerId;
+        final IActionSource source;
+        final Consumer<ServerPlayer> onComplete;
+        final long startedAt = System.currentTimeMillis();
+
+        final Map<AEItemKey, Future<ICraftingPlan>> calculations = new LinkedHashMap<>();
+        // Outputs handed to a CPU; without a requester AE2 may not return a link for the job
+        final Set<AEItemKey> submitted = new LinkedHashSet<>();
+        final List<ICraftingLink> jobs = new ArrayList<>();
+
+        CraftingPlan(IGrid grid, UUID playerId, IActionSource source, Consumer<ServerPlayer> onComplete) {
+            this.grid = grid;
+            this.playerId = playerId;
+            this.source = source;
+            this.onComplete = onComplete;
+        }
+
+        // Submit finished calculations and check running jobs. Returns a failure reason or null
+        @Nullable
+        String advance() {
+            Iterator<Map.Entry<AEItemKey, Future<ICraftingPlan>>> it = calculations.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<AEItemKey, Future<ICraftingPlan>> entry = it.next();
+                if (!entry.getValue().isDone()) continue;
+                it.remove();
+
+                ICraftingPlan result;
+                try {
+                    result = entry.getValue().get();
+                } catch (Exception e) {
+                    return "could not calculate " + entry.getKey().getDisplayName().getString();
+                }
+
+                if (result.simulation()) {
+                    return "missing ingredients for " + entry.getKey().getDisplayName().getString();
+                }
+
+                ICraftingSubmitResult submit = grid.getCraftingService().submitJob(result, null, null, false, source);
+                if (!submit.successful()) {
+                    return "no crafting CPU available for " + entry.getKey().getDisplayName().getString();
+                }
+                submitted.add(entry.getKey());
+                if (submit.link() != null) {
+                    jobs.add(submit.link());
+                }
+            }
+
+            for (ICraftingLink job : jobs) {
+                if (job.isCanceled()) {
+                    return "a crafting job was cancelled";
+                }
+            }
+            return null;
+        }
+
+        // Done once the CPUs stop waiting on any submitted output, whether or not we hold a link
+        boolean isDone() {
+            if (!calculations.isEmpty()) return false;
+            for (ICraftingLink job : jobs) {
+                if (!job.isDone()) return false;
+            }
+            ICraftingService crafting = grid.getCraftingService();
+            for (AEItemKey key : submitted) {
+                if (crafting.isRequesting(key)) return false;
+            }
+            return true;
+        }
+
+        void cancel() {
+            calculations.values().forEach(future -> future.cancel(true));
+            jobs.forEach(ICraftingLink::cancel);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.gtceuterminal.common.ae2;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Finds the distinct ME grids around a player
+ * Only walks the block entity maps of loaded chunks in range (no per-position cube scan),
+ * deduplicates by grid identity so every network is queried once no matter how many
+ * cables or parts are nearby, and memoizes the result per player for MEMO_TTL_MS
+ */
+public class MEGridLocator {
+
+    private static final long MEMO_TTL_MS = 5000;
+    // How far the player may move before the memoized result is considered stale
+    private static final int MEMO_MAX_DRIFT = 4;
+
+    private static final Map<UUID, Located> MEMO = new ConcurrentHashMap<>();
+
+    // Distinct grid handles (see AE2Bridge) within radius of the player, nearest host first
+    public static List<Object> findNearbyGrids(Player player, Level level, int radius) {
+        AE2Bridge bridge = AE2Integration.getBridge();
+        if (!bridge.isAvailable()) {
+            return List.of();
+        }
+
+        long now = System.currentTimeMillis();
+        BlockPos center = player.blockPosition();
+
+        Located cached = MEMO.get(player.getUUID());
+        if (cached != null && cached.isValidFor(level.dimension(), center, radius, now)) {
+            return cached.grids;
+        }
+
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> grids = new ArrayList<>();
+
+        try {
+            forEachBlockEntityInRange(level, center, radius, (pos, be) -> {
+                Object grid = bridge.getGrid(be);
+                if (grid != null && seen.add(grid)) {
+                    grids.add(grid);
+                }
+            });
+        } catch (Exception e) {
+            GTCEUTerminalMod.LOGGER.error("Error scanning for ME networks", e);
+        }
+
+        GTCEUTerminalMod.LOGGER.debug("Found {} distinct ME grids near {}", grids.size(), center);
+
+        List<Object> result = List.copyOf(grids);
+        MEMO.put(player.getUUID(), new Located(level.dimension(), center, radius, now, result));
+        return result;
+    }
+
+    // Forget the memoized grids for a player, e.g. after the network layout changed or they left
+    public static void invalidate(Player player) {
+        MEMO.remove(player.getUUID());
+    }
+
+    // Drop every memoized result, the grid handles belong to the server that is stopping
+    public static void clear() {
+        MEMO.clear();
+    }
+
+    /**
+     * Visit every block entity in the cube around center, reading only already-loaded chunks
+     * Positions outside the cube but inside an overlapped chunk are skipped
+     */
+    public static void forEachBlockEntityInRange(Level level, BlockPos center, int radius,
+                                                 BiConsumer<BlockPos, BlockEntity> visitor) {
+        int minX = center.getX() - radius, maxX = center.getX() + radius;
+        int minY = center.getY() - radius, maxY = center.getY() + radius;
+        int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(cx, cz);
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (Map.Entry<BlockPos, BlockEntity> entry : chunk.getBlockEntities().entrySet()) {
+                    BlockPos pos = entry.getKey();
+                    if (pos.getX() < minX || pos.getX() > maxX
+                            || pos.getY() < minY || pos.getY() > maxY
+                            || pos.getZ() < minZ || pos.getZ() > maxZ) {
+                        continue;
+                    }
+
+                    BlockEntity be = entry.getValue();
+                    if (be != null && !be.isRemoved()) {
+                        visitor.accept(pos, be);
+                    }
+                }
+            }
+        }
+    }
+
+    private record Located(ResourceKey<Level> dimension, BlockPos center, int radius, long createdAt,
+                           List<Object> grids) {
+
+        boolean isValidFor(ResourceKey<Level> dim, BlockPos pos, int r, long now) {
+            return now - createdAt <= MEMO_TTL_MS
+                    && radius == r
+                    && dimension.equals(dim)
+                    && center.distManhattan(pos) <= MEMO_MAX_DRIFT;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.gtceuterminal.common.ae2;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageService;
+import appeng.api.stacks.AEItemKey;
+
+import com.gtceuterminal.common.config.ServerConfig;
+import com.gtceuterminal.common.material.MaterialContext;
+import com.gtceuterminal.common.material.MaterialSource;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Material source over one ME grid
+ * Counts go through MEAvailabilityCache, so repeated checks in the same second don't rescan the network
+ */
+public class MEGridSource implements MaterialSource {
+
+    private final IGrid grid;
+    private final Player player;
+
+    public MEGridSource(IGrid grid, Player player) {
+        this.grid = grid;
+        this.player = player;
+    }
+
+    // Provider registered by AE2Integration at PRIORITY_ME_NETWORK: the grid the terminal is linked to
+    public static void collectLinked(MaterialContext context, List<MaterialSource> out) {
+        IGrid linked = findLinked(context);
+        if (linked != null && AE2Integration.getBridge().canExtract(linked, context.player())) {
+            out.add(new MEGridSource(linked, context.player()));
+        }
+    }
+
+    // Provider registered at PRIORITY_NEARBY_ME_NETWORK: other grids around the player, if enabled
+    public static void collectNearby(MaterialContext context, List<MaterialSource> out) {
+        if (context.level().isClientSide || !ServerConfig.isNearbyMEFallbackEnabled()) {
+            return;
+        }
+
+        IGrid linked = findLinked(context);
+        AE2Bridge bridge = AE2Integration.getBridge();
+        for (Object nearby : MEGridLocator.findNearbyGrids(context.player(), context.level(),
+                ServerConfig.getNearbyMEScanRadius())) {
+            // Someone else's secured network isn't a material source just because the player stands by it
+            if (nearby != linked && bridge.canExtract(nearby, context.player())) {
+                out.add(new MEGridSource((IGrid) nearby, context.player()));
+            }
+        }
+    }
+
+    @Nullable
+    private static IGrid findLinked(MaterialContext context) {
+        if (context.level().isClientSide || !context.hasTerminal() || !WirelessTerminalHandler.isLinked(context.terminal())) {
+            return null;
+        }
+        return WirelessTerminalHandler.getLinkedGrid(context.terminal(), context.level(), context.player());
+    }
+
+    public IGrid getGrid() {
+        return grid;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.ME_NETWORK;
+    }
+
+    @Override
+    public void count(Collection<Item> items, Map<Item, Long> into) {
+        MEAvailabilityCache.getItemCounts(player.getUUID(), grid, items).forEach((item, count) -> {
+            if (count > 0) {
+                into.merge(item, count, Long::sum);
+            }
+        });
+    }
+
+    @Override
+    public long extract(Item item, long amount, boolean simulate) {
+        return AE2Integration.getBridge().extractItem(grid, item, amount, player, simulate);
+    }
+
+    @Override
+    public long insert(Item item, long amount) {
+        IStorageService storage = grid.getStorageService();
+        AEItemKey key = AEItemKey.of(item);
+        if (storage == null || key == null) {
+            return amount;
+        }
+
+        long inserted = storage.getInventory().insert(key, amount, Actionable.MODULATE, IActionSource.ofPlayer(player));
+        MEAvailabilityCache.invalidate(grid);
+        return amount - inserted;
+    }
+}
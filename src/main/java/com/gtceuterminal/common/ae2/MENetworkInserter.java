@@ -0,0 +1,124 @@
+package com.gtceuterminal.common.ae2;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageService;
+import appeng.api.stacks.AEFluidKey;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.config.ServerConfig;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Moves leftover items and fluids into the player's ME Network in bulk
+ * Stacks are merged per key first (NBT is kept), so each distinct key is one insert call
+ */
+public class MENetworkInserter {
+
+    /**
+     * Insert into the grid the terminal is linked to, or a nearby grid if enabled
+     * @return the item stacks that didn't fit
+     */
+    public static List<ItemStack> insertIntoNetwork(ItemStack terminal, Level level, Player player,
+                                                    List<ItemStack> items) {
+        IGrid grid = findGrid(terminal, level, player);
+        if (grid == null) {
+            return items;
+        }
+
+        IStorageService storage = grid.getStorageService();
+        IActionSource source = IActionSource.ofPlayer(player);
+
+        Map<AEKey, Long> merged = new LinkedHashMap<>();
+        for (ItemStack stack : items) {
+            AEItemKey key = AEItemKey.of(stack);
+            if (key != null) {
+                merged.merge(key, (long) stack.getCount(), Long::sum);
+            }
+        }
+
+        List<ItemStack> leftover = new ArrayList<>();
+        for (Map.Entry<AEKey, Long> entry : merged.entrySet()) {
+            long inserted = storage.getInventory().insert(entry.getKey(), entry.getValue(), Actionable.MODULATE, source);
+            long remaining = entry.getValue() - inserted;
+            if (remaining <= 0) continue;
+
+            AEItemKey itemKey = (AEItemKey) entry.getKey();
+            while (remaining > 0) {
+                int count = (int) Math.min(remaining, itemKey.getItem().getMaxStackSize());
+                leftover.add(itemKey.toStack(count));
+                remaining -= count;
+            }
+        }
+
+        MEAvailabilityCache.invalidate(grid);
+        return leftover;
+    }
+
+    /**
+     * Store fluids in the same grid insertIntoNetwork would use, all or nothing
+     * Every key is simulated first; nothing is inserted unless the whole amount fits
+     * @return whether the fluids are now in the network
+     */
+    public static boolean insertFluids(ItemStack terminal, Level level, Player player, List<FluidStack> fluids) {
+        IGrid grid = findGrid(terminal, level, player);
+        if (grid == null) {
+            return false;
+        }
+
+        IStorageService storage = grid.getStorageService();
+        IActionSource source = IActionSource.ofPlayer(player);
+
+        Map<AEKey, Long> merged = new LinkedHashMap<>();
+        for (FluidStack fluid : fluids) {
+            AEFluidKey key = AEFluidKey.of(fluid);
+            if (key == null) {
+                return false;
+            }
+            merged.merge(key, (long) fluid.getAmount(), Long::sum);
+        }
+
+        for (Map.Entry<AEKey, Long> entry : merged.entrySet()) {
+            if (storage.getInventory().insert(entry.getKey(), entry.getValue(), Actionable.SIMULATE, source) < entry.getValue()) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<AEKey, Long> entry : merged.entrySet()) {
+            long inserted = storage.getInventory().insert(entry.getKey(), entry.getValue(), Actionable.MODULATE, source);
+            if (inserted < entry.getValue()) {
+                // Simulation said it fits, so this is a storage that lied about its space
+                GTCEUTerminalMod.LOGGER.error("ME Network took only {} of {} mB of {} after simulating the full amount",
+                        inserted, entry.getValue(), entry.getKey());
+            }
+        }
+
+        MEAvailabilityCache.invalidate(grid);
+        return true;
+    }
+
+    @Nullable
+    private static IGrid findGrid(ItemStack terminal, Level level, Player player) {
+        IGrid grid = null;
+        if (terminal != null && !terminal.isEmpty()) {
+            grid = WirelessTerminalHandler.getLinkedGrid(terminal, level, player);
+        }
+        if (grid == null && ServerConfig.isNearbyMEFallbackEnabled()) {
+            List<Object> nearby = MEGridLocator.findNearbyGrids(player, level, ServerConfig.getNearbyMEScanRadius());
+            if (!nearby.isEmpty()) {
+                grid = (IGrid) nearby.get(0);
+            }
+        }
+        return grid != null && grid.getStorageService() != null ? grid : null;
+    }
+}
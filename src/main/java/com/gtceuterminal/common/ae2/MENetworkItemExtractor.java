@@ -5,6 +5,7 @@ import appeng.api.networking.IGrid;
 import appeng.api.networking.storage.IStorageService;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.KeyCounter;
 import appeng.me.helpers.PlayerSource;
 
 import com.gtceuterminal.GTCEUTerminalMod;
@@ -13,55 +14,61 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 // Extracts items from ME Network with improved logging
 public class MENetworkItemExtractor {
 
-    // Check if all required items are available in the ME Network
-    public static boolean hasItems(IGrid grid, Map<Item, Integer> required) {
-        if (grid == null) {
-            return false;
+    /**
+     * Snapshot the amounts of several items in one pass.
+     * Uses the grid's per-tick cached inventory instead of materialising
+     * getAvailableStacks() once per item, so large networks are not copied repeatedly.
+     */
+    public static Map<Item, Long> getItemCounts(IGrid grid, Collection<Item> items) {
+        Map<Item, Long> counts = new HashMap<>();
+        if (grid == null || items.isEmpty()) {
+            return counts;
         }
 
         IStorageService storage = grid.getStorageService();
         if (storage == null) {
-            return false;
+            return counts;
         }
 
-        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
-            Item item = entry.getKey();
-            int requiredAmount = entry.getValue();
+        KeyCounter inventory = storage.getCachedInventory();
+        for (Item item : items) {
+            AEItemKey key = AEItemKey.of(item);
+            counts.put(item, key == null ? 0L : inventory.get(key));
+        }
 
-            ItemStack stack = new ItemStack(item);
-            AEItemKey key = AEItemKey.of(stack);
+        return counts;
+    }
 
-            long available = storage.getInventory().getAvailableStacks().get(key);
+    // Check if all required items are available in the ME Network
+    public static boolean hasItems(IGrid grid, Map<Item, Integer> required) {
+        if (grid == null) {
+            return false;
+        }
+
+        return hasItems(getItemCounts(grid, required.keySet()), required);
+    }
 
-            if (available < requiredAmount) {
+    // Check a requirement set against an already fetched snapshot
+    public static boolean hasItems(Map<Item, Long> available, Map<Item, Integer> required) {
+        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
+            if (available.getOrDefault(entry.getKey(), 0L) < entry.getValue()) {
                 return false;
             }
         }
-
         return true;
     }
 
     // Get amount of specific item in ME Network
     public static long getItemCount(IGrid grid, Item item) {
-        if (grid == null) {
-            return 0;
-        }
-
-        IStorageService storage = grid.getStorageService();
-        if (storage == null) {
-            return 0;
-        }
-
-        ItemStack stack = new ItemStack(item);
-        AEItemKey key = AEItemKey.of(stack);
-
-        return storage.getInventory().getAvailableStacks().get(key);
+        return getItemCounts(grid, List.of(item)).getOrDefault(item, 0L);
     }
 
     // Check availability WITHOUT extracting - for GUI display
@@ -70,21 +77,25 @@ public class MENetworkItemExtractor {
             net.minecraft.world.level.Level level,
             Player player,
             Item item) {
+        return checkItemsAvailability(stack, level, player, List.of(item)).getOrDefault(item, 0L);
+    }
+
+    // Batched variant of checkItemAvailability: resolves the grid once and answers every item from one snapshot
+    public static Map<Item, Long> checkItemsAvailability(
+            ItemStack stack,
+            net.minecraft.world.level.Level level,
+            Player player,
+            Collection<Item> items) {
 
         if (WirelessTerminalHandler.isLinked(stack)) {
             IGrid grid = WirelessTerminalHandler.getLinkedGrid(stack, level, player);
 
             if (grid != null) {
-                long count = getItemCount(grid, item);
-                if (count > 0) {
-                    GTCEUTerminalMod.LOGGER.debug("ME Network has {} of {}",
-                            count, item.getDescription().getString());
-                }
-                return count;
+                return MEAvailabilityCache.getItemCounts(player.getUUID(), grid, items);
             }
         }
 
-        return 0;
+        return new HashMap<>();
     }
 
 
@@ -102,10 +113,11 @@ public class MENetworkItemExtractor {
         }
 
         // First check if all items are available
-        if (!hasItems(grid, required)) {
+        Map<Item, Long> snapshot = getItemCounts(grid, required.keySet());
+        if (!hasItems(snapshot, required)) {
             GTCEUTerminalMod.LOGGER.info("ME Network missing required items");
             for (Map.Entry<Item, Integer> entry : required.entrySet()) {
-                long available = getItemCount(grid, entry.getKey());
+                long available = snapshot.getOrDefault(entry.getKey(), 0L);
                 if (available < entry.getValue()) {
                     GTCEUTerminalMod.LOGGER.info("  - {}: need {}, have {}",
                             entry.getKey().getDescription().getString(),
@@ -144,6 +156,7 @@ public class MENetworkItemExtractor {
                         item.getDescription().getString(), requiredAmount, extractedAmount);
                 // Rollback
                 rollbackExtraction(storage, extracted, actionSource);
+                MEAvailabilityCache.invalidate(grid);
                 return false;
             }
 
@@ -154,6 +167,7 @@ public class MENetworkItemExtractor {
                     item.getDescription().getString(), extractedAmount);
         }
 
+        MEAvailabilityCache.invalidate(grid);
         GTCEUTerminalMod.LOGGER.info("=== Total extracted: {} items from ME Network ===", totalExtracted);
         return true;
     }
@@ -176,129 +190,4 @@ public class MENetworkItemExtractor {
             }
         }
     }
-
-
-    // Try to extract items from ME Network, with fallback to player inventory
-    public static ExtractResult tryExtractFromMEOrInventory(
-            ItemStack stack,
-            net.minecraft.world.level.Level level,
-            Player player,
-            Map<Item, Integer> required) {
-
-        GTCEUTerminalMod.LOGGER.info("=== Attempting Item Extraction ===");
-        GTCEUTerminalMod.LOGGER.info("Player: {}", player.getName().getString());
-        GTCEUTerminalMod.LOGGER.info("Items needed: {}", required.size());
-
-        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
-            GTCEUTerminalMod.LOGGER.info("  - {} x{}",
-                    entry.getKey().getDescription().getString(), entry.getValue());
-        }
-
-        // Try ME Network first if linked
-        if (WirelessTerminalHandler.isLinked(stack)) {
-            GTCEUTerminalMod.LOGGER.info("Wireless terminal is LINKED, checking ME Network...");
-
-            IGrid grid = WirelessTerminalHandler.getLinkedGrid(stack, level, player);
-
-            if (grid != null) {
-                GTCEUTerminalMod.LOGGER.info("Grid connection: ACTIVE");
-
-                if (extractItems(grid, required, player)) {
-                    GTCEUTerminalMod.LOGGER.info("✓ SUCCESS: Extracted from ME Network");
-                    return new ExtractResult(true, ExtractionSource.ME_NETWORK);
-                } else {
-                    GTCEUTerminalMod.LOGGER.info("✗ FAILED: ME Network doesn't have required items");
-                }
-            } else {
-                GTCEUTerminalMod.LOGGER.warn("Grid connection: FAILED (out of range or not powered?)");
-            }
-        } else {
-            GTCEUTerminalMod.LOGGER.info("Wireless terminal is NOT LINKED");
-        }
-
-        // Fallback to player inventory
-        GTCEUTerminalMod.LOGGER.info("Trying player inventory as fallback...");
-
-        if (extractFromPlayerInventory(player, required)) {
-            GTCEUTerminalMod.LOGGER.info("✓ SUCCESS: Extracted from Player Inventory");
-            return new ExtractResult(true, ExtractionSource.PLAYER_INVENTORY);
-        }
-
-        GTCEUTerminalMod.LOGGER.warn("✗ FAILED: Not enough items in inventory or ME Network");
-        return new ExtractResult(false, ExtractionSource.NONE);
-    }
-
-    // Extract items from player inventory
-    private static boolean extractFromPlayerInventory(Player player, Map<Item, Integer> required) {
-        // First check if player has all items
-        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
-            int count = countItemInInventory(player, entry.getKey());
-            if (count < entry.getValue()) {
-                GTCEUTerminalMod.LOGGER.info("  Missing {}: need {}, have {}",
-                        entry.getKey().getDescription().getString(),
-                        entry.getValue(),
-                        count);
-                return false;
-            }
-        }
-
-        // Extract all items
-        int totalExtracted = 0;
-        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
-            Item item = entry.getKey();
-            int remaining = entry.getValue();
-
-            for (ItemStack invStack : player.getInventory().items) {
-                if (remaining <= 0) break;
-
-                if (invStack.getItem() == item) {
-                    int toRemove = Math.min(remaining, invStack.getCount());
-                    invStack.shrink(toRemove);
-                    remaining -= toRemove;
-                    totalExtracted += toRemove;
-                }
-            }
-
-            if (remaining > 0) {
-                return false;
-            }
-
-            GTCEUTerminalMod.LOGGER.info("  ✓ Extracted {} x{} from inventory",
-                    item.getDescription().getString(), entry.getValue());
-        }
-
-        GTCEUTerminalMod.LOGGER.info("Total extracted: {} items from inventory", totalExtracted);
-        return true;
-    }
-
-     // Count how many of an item the player has
-    private static int countItemInInventory(Player player, Item item) {
-        int count = 0;
-
-        for (ItemStack invStack : player.getInventory().items) {
-            if (invStack.getItem() == item) {
-                count += invStack.getCount();
-            }
-        }
-
-        return count;
-    }
-
-     // Result of an extraction attempt
-    public static class ExtractResult {
-        public final boolean success;
-        public final ExtractionSource source;
-
-        public ExtractResult(boolean success, ExtractionSource source) {
-            this.success = success;
-            this.source = source;
-        }
-    }
-
-    // Where items were extracted from
-    public enum ExtractionSource {
-        ME_NETWORK,
-        PLAYER_INVENTORY,
-        NONE
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.gtceuterminal.common.ae2;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// Bridge used when AE2 is not installed - every network looks empty
+public class NoopAE2Bridge implements AE2Bridge {
+
+    @Override
+    public boolean isAvailable() {
+        return false;
+    }
+
+    @Override
+    public boolean isGridHost(BlockEntity be) {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Object getGrid(BlockEntity be) {
+        return null;
+    }
+
+    @Override
+    public Map<Item, Long> countItems(Object grid, Collection<Item> items) {
+        return new HashMap<>();
+    }
+
+    @Override
+    public boolean canExtract(Object grid, Player player) {
+        return false;
+    }
+
+    @Override
+    public long extractItem(Object grid, Item item, long amount, Player player, boolean simulate) {
+        return 0;
+    }
+}
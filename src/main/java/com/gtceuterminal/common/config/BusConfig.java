@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +19,8 @@ public class BusConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "buses.json";
     
-    private static List<BusEntry> inputBuses = new ArrayList<>();
-    private static List<BusEntry> outputBuses = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile Entries entries = new Entries(List.of(), List.of());
     private static boolean initialized = false;
 
     public static class BusEntry {
@@ -64,21 +63,34 @@ public class BusConfig {
         
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
         
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Bus config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load bus config, keeping previous entries: {}", e.getMessage());
         }
         
-        organizeBuses();
         LOGGER.info("Bus configuration initialized: {} input, {} output", 
-            inputBuses.size(), outputBuses.size());
+            entries.input().size(), entries.output().size());
         
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         BusConfiguration config = new BusConfiguration();
         
@@ -113,28 +125,28 @@ public class BusConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            BusConfiguration config = GSON.fromJson(json, BusConfiguration.class);
-            
-            if (config != null && config.buses != null) {
-                inputBuses.clear();
-                outputBuses.clear();
-                
-                for (BusEntry entry : config.buses) {
-                    if ("INPUT".equalsIgnoreCase(entry.busType)) {
-                        inputBuses.add(entry);
-                    } else if ("OUTPUT".equalsIgnoreCase(entry.busType)) {
-                        outputBuses.add(entry);
-                    }
-                }
-                
-                LOGGER.info("Loaded {} buses from config", config.buses.size());
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        BusConfiguration config = ConfigBlocks.read(GSON, configPath, BusConfiguration.class);
+        if (config.buses == null) {
+            throw new IOException("Invalid config file structure: no buses list");
+        }
+
+        List<BusEntry> input = new ArrayList<>();
+        List<BusEntry> output = new ArrayList<>();
+        for (BusEntry entry : ConfigBlocks.dropUnknown(config.buses, e -> e.blockId, CONFIG_FILE)) {
+            if ("INPUT".equalsIgnoreCase(entry.busType)) {
+                input.add(entry);
+            } else if ("OUTPUT".equalsIgnoreCase(entry.busType)) {
+                output.add(entry);
             }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load bus config: {}", e.getMessage());
         }
+
+        input.sort(Comparator.comparingInt(e -> e.tier));
+        output.sort(Comparator.comparingInt(e -> e.tier));
+        entries = new Entries(Collections.unmodifiableList(input), Collections.unmodifiableList(output));
+
+        LOGGER.info("Loaded {} buses from config", input.size() + output.size());
     }
 
     private static void saveConfig(Path configPath, BusConfiguration config) {
@@ -148,34 +160,33 @@ public class BusConfig {
         }
     }
 
-    private static void organizeBuses() {
-        inputBuses.sort(Comparator.comparingInt(b -> b.tier));
-        outputBuses.sort(Comparator.comparingInt(b -> b.tier));
-    }
-
     // Public API
     public static List<BusEntry> getInputBuses() {
-        return new ArrayList<>(inputBuses);
+        return new ArrayList<>(entries.input());
     }
 
     public static List<BusEntry> getOutputBuses() {
-        return new ArrayList<>(outputBuses);
+        return new ArrayList<>(entries.output());
     }
 
     public static List<BusEntry> getAllBuses() {
         List<BusEntry> all = new ArrayList<>();
-        all.addAll(inputBuses);
-        all.addAll(outputBuses);
+        Entries current = entries;
+        all.addAll(current.input());
+        all.addAll(current.output());
         return all;
     }
 
     public static BusEntry getBusByBlock(String blockId) {
-        for (BusEntry bus : inputBuses) {
+        Entries current = entries;
+        for (BusEntry bus : current.input()) {
             if (bus.blockId.equals(blockId)) return bus;
         }
-        for (BusEntry bus : outputBuses) {
+        for (BusEntry bus : current.output()) {
             if (bus.blockId.equals(blockId)) return bus;
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private record Entries(List<BusEntry> input, List<BusEntry> output) {}
+}
@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
@@ -25,7 +24,8 @@ public class CoilConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "coils.json";
 
-    private static List<CoilEntry> coilEntries = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile List<CoilEntry> coilEntries = List.of();
     private static boolean initialized = false;
 
     public static class CoilEntry {
@@ -67,23 +67,25 @@ public class CoilConfig {
 
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
 
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Config file not found, creating default configuration...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load coil config, using built-in defaults (file left untouched): {}", e.getMessage());
+            coilEntries = sorted(ConfigBlocks.dropUnknown(defaultConfig().coils, entry -> entry.blockId, CONFIG_FILE));
         }
 
-        coilEntries.sort(Comparator.comparingInt(entry -> entry.temperature));
-
         LOGGER.info("Coil configuration initialized with {} coil types", coilEntries.size());
         logCoilList();
 
         initialized = true;
     }
 
-    private static void createDefaultConfig(Path configPath) {
+    private static CoilConfiguration defaultConfig() {
         CoilConfiguration config = new CoilConfiguration();
 
         config.coils.add(new CoilEntry("gtceu:cupronickel_coil_block", "Cupronickel Coil", 1800, 0));
@@ -94,6 +96,11 @@ public class CoilConfig {
         config.coils.add(new CoilEntry("gtceu:naquadah_coil_block", "Naquadah Coil", 7200, 5));
         config.coils.add(new CoilEntry("gtceu:trinium_coil_block", "Trinium Coil", 9000, 6));
         config.coils.add(new CoilEntry("gtceu:tritanium_coil_block", "Tritanium Coil", 10800, 7));
+        return config;
+    }
+
+    private static void createDefaultConfig(Path configPath) {
+        CoilConfiguration config = defaultConfig();
 
         try {
             Files.createDirectories(configPath.getParent());
@@ -108,40 +115,33 @@ public class CoilConfig {
         }
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            CoilConfiguration config = GSON.fromJson(json, CoilConfiguration.class);
+    // Parse, validate and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        CoilConfiguration config = ConfigBlocks.read(GSON, configPath, CoilConfiguration.class);
+        if (config.coils == null) {
+            throw new IOException("Invalid config file structure: no coils list");
+        }
 
-            if (config == null || config.coils == null) {
-                LOGGER.error("Invalid config file structure, using defaults");
-                createDefaultConfig(configPath);
-                return;
+        List<CoilEntry> loaded = new ArrayList<>();
+        for (CoilEntry entry : config.coils) {
+            if (entry != null && validateEntry(entry)) {
+                loaded.add(entry);
+            } else {
+                LOGGER.warn("Skipping invalid coil entry: {}", entry);
             }
+        }
 
-            coilEntries.clear();
-
-            for (CoilEntry entry : config.coils) {
-                if (validateEntry(entry)) {
-                    coilEntries.add(entry);
-                } else {
-                    LOGGER.warn("Skipping invalid coil entry: {}", entry);
-                }
-            }
+        if (loaded.isEmpty()) {
+            throw new IOException("No valid coils found in config");
+        }
 
-            if (coilEntries.isEmpty()) {
-                LOGGER.warn("No valid coils found in config, creating defaults");
-                createDefaultConfig(configPath);
-                loadConfig(configPath);
-            }
+        coilEntries = sorted(loaded);
+    }
 
-        } catch (IOException e) {
-            LOGGER.error("Failed to load config file", e);
-            createDefaultConfig(configPath);
-        } catch (JsonSyntaxException e) {
-            LOGGER.error("Invalid JSON syntax in config file", e);
-            createDefaultConfig(configPath);
-        }
+    private static List<CoilEntry> sorted(List<CoilEntry> coils) {
+        List<CoilEntry> copy = new ArrayList<>(coils);
+        copy.sort(Comparator.comparingInt(entry -> entry.temperature));
+        return Collections.unmodifiableList(copy);
     }
 
     private static boolean validateEntry(CoilEntry entry) {
@@ -166,16 +166,8 @@ public class CoilConfig {
         }
 
         // Verify block exists
-        try {
-            ResourceLocation blockId = ResourceLocation.parse(entry.blockId);
-            Block block = BuiltInRegistries.BLOCK.get(blockId);
-
-            if (block == null || block == net.minecraft.world.level.block.Blocks.AIR) {
-                LOGGER.warn("Block not found in registry: {} - skipping", entry.blockId);
-                return false;
-            }
-        } catch (Exception e) {
-            LOGGER.error("Invalid block ID format: {}", entry.blockId, e);
+        if (!ConfigBlocks.isRegistered(entry.blockId)) {
+            LOGGER.warn("Block not found in registry: {} - skipping", entry.blockId);
             return false;
         }
 
@@ -196,8 +188,9 @@ public class CoilConfig {
 
         String blockId = BuiltInRegistries.BLOCK.getKey(state.getBlock()).toString();
 
-        for (int i = 0; i < coilEntries.size(); i++) {
-            if (coilEntries.get(i).blockId.equals(blockId)) {
+        List<CoilEntry> coils = coilEntries;
+        for (int i = 0; i < coils.size(); i++) {
+            if (coils.get(i).blockId.equals(blockId)) {
                 return i;
             }
         }
@@ -210,8 +203,9 @@ public class CoilConfig {
             initialize();
         }
 
-        if (tier >= 0 && tier < coilEntries.size()) {
-            return coilEntries.get(tier);
+        List<CoilEntry> coils = coilEntries;
+        if (tier >= 0 && tier < coils.size()) {
+            return coils.get(tier);
         }
 
         return null;
@@ -240,28 +234,31 @@ public class CoilConfig {
         if (!initialized) {
             initialize();
         }
-        if (coilEntries.isEmpty()) {
-            return 0;
-        }
-
-        return coilEntries.size() - 1;
+        return Math.max(coilEntries.size() - 1, 0);
     }
 
     public static boolean isValidTier(int tier) {
         return tier >= 0 && tier <= getMaxCoilTier();
     }
 
-    public static void reload() {
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
         LOGGER.info("Reloading coil configuration...");
-        initialized = false;
-        coilEntries.clear();
-        initialize();
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+            logCoilList();
+        }
     }
 
     private static void logCoilList() {
         LOGGER.info("Configured coils (sorted by temperature):");
-        for (int i = 0; i < coilEntries.size(); i++) {
-            CoilEntry entry = coilEntries.get(i);
+        List<CoilEntry> coils = coilEntries;
+        for (int i = 0; i < coils.size(); i++) {
+            CoilEntry entry = coils.get(i);
             LOGGER.info("  [{}] {} - {}K (Block: {})",
                     i, entry.displayName, entry.temperature, entry.blockId);
         }
@@ -0,0 +1,60 @@
+package com.gtceuterminal.common.config;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parsing and registry checks shared by the component config loaders
+ * A file that can't be used is reported as an IOException so the caller keeps its previous
+ * entries; entries naming a block that isn't registered are dropped before anything is swapped in
+ */
+final class ConfigBlocks {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigBlocks.class);
+
+    private ConfigBlocks() {}
+
+    // Parse a config file, never returns null
+    static <T> T read(Gson gson, Path configPath, Class<T> type) throws IOException {
+        T config;
+        try {
+            config = gson.fromJson(Files.readString(configPath), type);
+        } catch (JsonParseException e) {
+            throw new IOException("Invalid JSON in " + configPath.getFileName() + ": " + e.getMessage(), e);
+        }
+        if (config == null) {
+            throw new IOException(configPath.getFileName() + " is empty");
+        }
+        return config;
+    }
+
+    // Entries whose block is registered, in their original order
+    static <T> List<T> dropUnknown(List<T> entries, Function<T, String> blockId, String file) {
+        List<T> known = new ArrayList<>(entries.size());
+        for (T entry : entries) {
+            if (entry != null && isRegistered(blockId.apply(entry))) {
+                known.add(entry);
+            } else {
+                LOGGER.warn("{}: skipping entry with unknown block {}", file, entry != null ? blockId.apply(entry) : null);
+            }
+        }
+        return known;
+    }
+
+    static boolean isRegistered(String blockId) {
+        ResourceLocation id = blockId != null ? ResourceLocation.tryParse(blockId) : null;
+        return id != null && BuiltInRegistries.BLOCK.containsKey(id);
+    }
+}
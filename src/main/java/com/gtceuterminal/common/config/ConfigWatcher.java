@@ -0,0 +1,105 @@
+package com.gtceuterminal.common.config;
+
+import com.gtceuterminal.common.upgrade.ComponentUpgradeGraph;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot reload for the component JSON configs in config/gtceuterminal
+ * A daemon thread watches the directory, re-parses whichever files changed and then recompiles
+ * the upgrade graph (which re-checks every block id against the registry). Each config swaps its
+ * entries in with a single write, so readers never lock and never see a half-loaded file
+ */
+public class ConfigWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigWatcher.class);
+
+    private static final Path CONFIG_DIR = Paths.get("config/gtceuterminal");
+    // Editors often save in several steps (truncate, write, rename); wait for them to settle
+    private static final long SETTLE_MS = 500;
+
+    private static final Map<String, Reloader> RELOADERS = Map.of(
+            "coils.json", CoilConfig::reload,
+            "hatches.json", HatchConfig::reload,
+            "buses.json", BusConfig::reload,
+            "energy_hatches.json", EnergyHatchConfig::reload,
+            "muffler_hatches.json", MufflerHatchConfig::reload,
+            "parallel_hatches.json", ParallelHatchConfig::reload,
+            "maintenance_hatches.json", MaintenanceHatchConfig::reload
+    );
+
+    private static Thread thread;
+
+    // A config's reload; throwing means the file was unusable and the config kept its previous entries
+    @FunctionalInterface
+    private interface Reloader {
+        void reload() throws IOException;
+    }
+
+    public static synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        WatchService watcher;
+        try {
+            Files.createDirectories(CONFIG_DIR);
+            watcher = CONFIG_DIR.getFileSystem().newWatchService();
+            CONFIG_DIR.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOGGER.warn("Config hot reload unavailable: {}", e.getMessage());
+            return;
+        }
+
+        thread = new Thread(() -> watch(watcher), "GTCEu Terminal Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        LOGGER.info("Watching {} for config changes", CONFIG_DIR.toAbsolutePath());
+    }
+
+    private static void watch(WatchService watcher) {
+        try (watcher) {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<String> changed = new HashSet<>();
+                WatchKey key = watcher.take();
+
+                // Collect everything that changes until the directory is quiet for a moment
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path file && RELOADERS.containsKey(file.toString())) {
+                            changed.add(file.toString());
+                        }
+                    }
+                    if (!key.reset()) {
+                        LOGGER.warn("Config directory is no longer accessible, hot reload stopped");
+                        return;
+                    }
+                    key = watcher.poll(SETTLE_MS, TimeUnit.MILLISECONDS);
+                }
+
+                if (changed.isEmpty()) continue;
+
+                for (String file : changed) {
+                    LOGGER.info("Reloading {}", file);
+                    try {
+                        RELOADERS.get(file).reload();
+                    } catch (Exception e) {
+                        LOGGER.error("Failed to reload {}, keeping previous entries", file, e);
+                    }
+                }
+                ComponentUpgradeGraph.rebuild();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOGGER.warn("Config watcher stopped: {}", e.getMessage());
+        }
+    }
+}
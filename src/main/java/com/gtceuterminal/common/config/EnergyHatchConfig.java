@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +19,8 @@ public class EnergyHatchConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "energy_hatches.json";
     
-    private static List<EnergyHatchEntry> inputHatches = new ArrayList<>();
-    private static List<EnergyHatchEntry> outputHatches = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile Entries entries = new Entries(List.of(), List.of());
     private static boolean initialized = false;
 
     public static class EnergyHatchEntry {
@@ -66,21 +65,34 @@ public class EnergyHatchConfig {
         
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
         
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Energy hatch config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load energy hatch config, keeping previous entries: {}", e.getMessage());
         }
         
-        organizeHatches();
         LOGGER.info("Energy hatch configuration initialized: {} input, {} output", 
-            inputHatches.size(), outputHatches.size());
+            entries.input().size(), entries.output().size());
         
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         EnergyHatchConfiguration config = new EnergyHatchConfiguration();
         
@@ -151,28 +163,28 @@ public class EnergyHatchConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            EnergyHatchConfiguration config = GSON.fromJson(json, EnergyHatchConfiguration.class);
-            
-            if (config != null && config.energyHatches != null) {
-                inputHatches.clear();
-                outputHatches.clear();
-                
-                for (EnergyHatchEntry entry : config.energyHatches) {
-                    if ("INPUT".equalsIgnoreCase(entry.energyType)) {
-                        inputHatches.add(entry);
-                    } else if ("OUTPUT".equalsIgnoreCase(entry.energyType)) {
-                        outputHatches.add(entry);
-                    }
-                }
-                
-                LOGGER.info("Loaded {} energy hatches from config", config.energyHatches.size());
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        EnergyHatchConfiguration config = ConfigBlocks.read(GSON, configPath, EnergyHatchConfiguration.class);
+        if (config.energyHatches == null) {
+            throw new IOException("Invalid config file structure: no energyHatches list");
+        }
+
+        List<EnergyHatchEntry> input = new ArrayList<>();
+        List<EnergyHatchEntry> output = new ArrayList<>();
+        for (EnergyHatchEntry entry : ConfigBlocks.dropUnknown(config.energyHatches, e -> e.blockId, CONFIG_FILE)) {
+            if ("INPUT".equalsIgnoreCase(entry.energyType)) {
+                input.add(entry);
+            } else if ("OUTPUT".equalsIgnoreCase(entry.energyType)) {
+                output.add(entry);
             }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load energy hatch config: {}", e.getMessage());
         }
+
+        input.sort(Comparator.comparingInt(e -> e.tier));
+        output.sort(Comparator.comparingInt(e -> e.tier));
+        entries = new Entries(Collections.unmodifiableList(input), Collections.unmodifiableList(output));
+
+        LOGGER.info("Loaded {} energy hatches from config", input.size() + output.size());
     }
 
     private static void saveConfig(Path configPath, EnergyHatchConfiguration config) {
@@ -186,34 +198,33 @@ public class EnergyHatchConfig {
         }
     }
 
-    private static void organizeHatches() {
-        inputHatches.sort(Comparator.comparingInt(h -> h.tier));
-        outputHatches.sort(Comparator.comparingInt(h -> h.tier));
-    }
-
     // Public API
     public static List<EnergyHatchEntry> getInputHatches() {
-        return new ArrayList<>(inputHatches);
+        return new ArrayList<>(entries.input());
     }
 
     public static List<EnergyHatchEntry> getOutputHatches() {
-        return new ArrayList<>(outputHatches);
+        return new ArrayList<>(entries.output());
     }
 
     public static List<EnergyHatchEntry> getAllEnergyHatches() {
         List<EnergyHatchEntry> all = new ArrayList<>();
-        all.addAll(inputHatches);
-        all.addAll(outputHatches);
+        Entries current = entries;
+        all.addAll(current.input());
+        all.addAll(current.output());
         return all;
     }
 
     public static EnergyHatchEntry getEnergyHatchByBlock(String blockId) {
-        for (EnergyHatchEntry hatch : inputHatches) {
+        Entries current = entries;
+        for (EnergyHatchEntry hatch : current.input()) {
             if (hatch.blockId.equals(blockId)) return hatch;
         }
-        for (EnergyHatchEntry hatch : outputHatches) {
+        for (EnergyHatchEntry hatch : current.output()) {
             if (hatch.blockId.equals(blockId)) return hatch;
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private record Entries(List<EnergyHatchEntry> input, List<EnergyHatchEntry> output) {}
+}
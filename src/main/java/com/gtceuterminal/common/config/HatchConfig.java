@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +19,8 @@ public class HatchConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "hatches.json";
     
-    private static List<HatchEntry> inputHatches = new ArrayList<>();
-    private static List<HatchEntry> outputHatches = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile Entries entries = new Entries(List.of(), List.of());
     private static boolean initialized = false;
 
     public static class HatchEntry {
@@ -64,21 +63,34 @@ public class HatchConfig {
         
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
         
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Hatch config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load hatch config, keeping previous entries: {}", e.getMessage());
         }
         
-        organizeHatches();
         LOGGER.info("Hatch configuration initialized: {} input, {} output", 
-            inputHatches.size(), outputHatches.size());
+            entries.input().size(), entries.output().size());
         
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         HatchConfiguration config = new HatchConfiguration();
         
@@ -113,28 +125,28 @@ public class HatchConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            HatchConfiguration config = GSON.fromJson(json, HatchConfiguration.class);
-            
-            if (config != null && config.hatches != null) {
-                inputHatches.clear();
-                outputHatches.clear();
-                
-                for (HatchEntry entry : config.hatches) {
-                    if ("INPUT".equalsIgnoreCase(entry.hatchType)) {
-                        inputHatches.add(entry);
-                    } else if ("OUTPUT".equalsIgnoreCase(entry.hatchType)) {
-                        outputHatches.add(entry);
-                    }
-                }
-                
-                LOGGER.info("Loaded {} hatches from config", config.hatches.size());
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        HatchConfiguration config = ConfigBlocks.read(GSON, configPath, HatchConfiguration.class);
+        if (config.hatches == null) {
+            throw new IOException("Invalid config file structure: no hatches list");
+        }
+
+        List<HatchEntry> input = new ArrayList<>();
+        List<HatchEntry> output = new ArrayList<>();
+        for (HatchEntry entry : ConfigBlocks.dropUnknown(config.hatches, e -> e.blockId, CONFIG_FILE)) {
+            if ("INPUT".equalsIgnoreCase(entry.hatchType)) {
+                input.add(entry);
+            } else if ("OUTPUT".equalsIgnoreCase(entry.hatchType)) {
+                output.add(entry);
             }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load hatch config: {}", e.getMessage());
         }
+
+        input.sort(Comparator.comparingInt(e -> e.tier));
+        output.sort(Comparator.comparingInt(e -> e.tier));
+        entries = new Entries(Collections.unmodifiableList(input), Collections.unmodifiableList(output));
+
+        LOGGER.info("Loaded {} hatches from config", input.size() + output.size());
     }
 
     private static void saveConfig(Path configPath, HatchConfiguration config) {
@@ -148,34 +160,33 @@ public class HatchConfig {
         }
     }
 
-    private static void organizeHatches() {
-        inputHatches.sort(Comparator.comparingInt(h -> h.tier));
-        outputHatches.sort(Comparator.comparingInt(h -> h.tier));
-    }
-
     // Public API
     public static List<HatchEntry> getInputHatches() {
-        return new ArrayList<>(inputHatches);
+        return new ArrayList<>(entries.input());
     }
 
     public static List<HatchEntry> getOutputHatches() {
-        return new ArrayList<>(outputHatches);
+        return new ArrayList<>(entries.output());
     }
 
     public static List<HatchEntry> getAllHatches() {
         List<HatchEntry> all = new ArrayList<>();
-        all.addAll(inputHatches);
-        all.addAll(outputHatches);
+        Entries current = entries;
+        all.addAll(current.input());
+        all.addAll(current.output());
         return all;
     }
 
     public static HatchEntry getHatchByBlock(String blockId) {
-        for (HatchEntry hatch : inputHatches) {
+        Entries current = entries;
+        for (HatchEntry hatch : current.input()) {
             if (hatch.blockId.equals(blockId)) return hatch;
         }
-        for (HatchEntry hatch : outputHatches) {
+        for (HatchEntry hatch : current.output()) {
             if (hatch.blockId.equals(blockId)) return hatch;
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private record Entries(List<HatchEntry> input, List<HatchEntry> output) {}
+}
@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 import com.gregtechceu.gtceu.api.GTValues;
 
 import org.slf4j.Logger;
@@ -21,7 +20,8 @@ public class MaintenanceHatchConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "maintenance_hatches.json";
     
-    private static final List<MaintenanceHatchEntry> maintenanceHatches = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile List<MaintenanceHatchEntry> maintenanceHatches = List.of();
     private static boolean initialized = false;
 
     public static class MaintenanceHatchEntry {
@@ -65,20 +65,33 @@ public class MaintenanceHatchConfig {
         
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
         
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Maintenance hatch config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load maintenance hatch config, keeping previous entries: {}", e.getMessage());
         }
         
-        organizeHatches();
         LOGGER.info("Maintenance hatch configuration initialized: {} hatches", maintenanceHatches.size());
         
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         MaintenanceHatchConfiguration config = new MaintenanceHatchConfiguration();
         
@@ -118,20 +131,18 @@ public class MaintenanceHatchConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            MaintenanceHatchConfiguration config = GSON.fromJson(json, MaintenanceHatchConfiguration.class);
-            
-            if (config != null && config.maintenanceHatches != null) {
-                maintenanceHatches.clear();
-                maintenanceHatches.addAll(config.maintenanceHatches);
-                
-                LOGGER.info("Loaded {} maintenance hatches from config", config.maintenanceHatches.size());
-            }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load maintenance hatch config: {}", e.getMessage());
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        MaintenanceHatchConfiguration config = ConfigBlocks.read(GSON, configPath, MaintenanceHatchConfiguration.class);
+        if (config.maintenanceHatches == null) {
+            throw new IOException("Invalid config file structure: no maintenanceHatches list");
         }
+
+        List<MaintenanceHatchEntry> loaded = ConfigBlocks.dropUnknown(config.maintenanceHatches, h -> h.blockId, CONFIG_FILE);
+        loaded.sort(Comparator.comparingInt(h -> h.tier));
+        maintenanceHatches = Collections.unmodifiableList(loaded);
+
+        LOGGER.info("Loaded {} maintenance hatches from config", loaded.size());
     }
 
     private static void saveConfig(Path configPath, MaintenanceHatchConfiguration config) {
@@ -145,10 +156,6 @@ public class MaintenanceHatchConfig {
         }
     }
 
-    private static void organizeHatches() {
-        maintenanceHatches.sort(Comparator.comparingInt(h -> h.tier));
-    }
-
     // Public API
     public static List<MaintenanceHatchEntry> getAllMaintenanceHatches() {
         return new ArrayList<>(maintenanceHatches);
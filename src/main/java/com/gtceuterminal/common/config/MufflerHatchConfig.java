@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +19,8 @@ public class MufflerHatchConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "muffler_hatches.json";
     
-    private static List<MufflerHatchEntry> mufflerHatches = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile List<MufflerHatchEntry> mufflerHatches = List.of();
     private static boolean initialized = false;
 
     public static class MufflerHatchEntry {
@@ -63,20 +63,33 @@ public class MufflerHatchConfig {
         
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
         
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Muffler hatch config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load muffler hatch config, keeping previous entries: {}", e.getMessage());
         }
         
-        organizeHatches();
         LOGGER.info("Muffler hatch configuration initialized: {} hatches", mufflerHatches.size());
         
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         MufflerHatchConfiguration config = new MufflerHatchConfiguration();
         
@@ -100,20 +113,18 @@ public class MufflerHatchConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            MufflerHatchConfiguration config = GSON.fromJson(json, MufflerHatchConfiguration.class);
-            
-            if (config != null && config.mufflerHatches != null) {
-                mufflerHatches.clear();
-                mufflerHatches.addAll(config.mufflerHatches);
-                
-                LOGGER.info("Loaded {} muffler hatches from config", config.mufflerHatches.size());
-            }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load muffler hatch config: {}", e.getMessage());
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        MufflerHatchConfiguration config = ConfigBlocks.read(GSON, configPath, MufflerHatchConfiguration.class);
+        if (config.mufflerHatches == null) {
+            throw new IOException("Invalid config file structure: no mufflerHatches list");
         }
+
+        List<MufflerHatchEntry> loaded = ConfigBlocks.dropUnknown(config.mufflerHatches, h -> h.blockId, CONFIG_FILE);
+        loaded.sort(Comparator.comparingInt(h -> h.tier));
+        mufflerHatches = Collections.unmodifiableList(loaded);
+
+        LOGGER.info("Loaded {} muffler hatches from config", loaded.size());
     }
 
     private static void saveConfig(Path configPath, MufflerHatchConfiguration config) {
@@ -127,10 +138,6 @@ public class MufflerHatchConfig {
         }
     }
 
-    private static void organizeHatches() {
-        mufflerHatches.sort(Comparator.comparingInt(h -> h.tier));
-    }
-
     // Public API
     public static List<MufflerHatchEntry> getAllMufflerHatches() {
         return new ArrayList<>(mufflerHatches);
@@ -2,7 +2,6 @@ package com.gtceuterminal.common.config;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +19,8 @@ public class ParallelHatchConfig {
     private static final String CONFIG_DIR = "config/gtceuterminal";
     private static final String CONFIG_FILE = "parallel_hatches.json";
 
-    private static List<ParallelHatchEntry> parallelHatches = new ArrayList<>();
+    // Replaced as a whole on every load, never modified in place
+    private static volatile List<ParallelHatchEntry> parallelHatches = List.of();
     private static boolean initialized = false;
 
     public static class ParallelHatchEntry {
@@ -64,20 +64,33 @@ public class ParallelHatchConfig {
 
         Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
 
-        if (Files.exists(configPath)) {
-            loadConfig(configPath);
-        } else {
+        // Defaults are only written when there is no file yet, a broken file is left for the user to fix
+        if (!Files.exists(configPath)) {
             LOGGER.info("Parallel hatch config not found, creating default...");
             createDefaultConfig(configPath);
+        }
+        try {
             loadConfig(configPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to load parallel hatch config, keeping previous entries: {}", e.getMessage());
         }
 
-        organizeHatches();
         LOGGER.info("Parallel hatch configuration initialized: {} hatches", parallelHatches.size());
 
         initialized = true;
     }
 
+    /**
+     * Re-read the config file and swap in the new entries. Safe to call from any thread
+     * Never writes the file; if it can't be used the previous entries stay and the error is thrown
+     */
+    public static void reload() throws IOException {
+        Path configPath = Paths.get(CONFIG_DIR, CONFIG_FILE);
+        if (Files.exists(configPath)) {
+            loadConfig(configPath);
+        }
+    }
+
     private static void createDefaultConfig(Path configPath) {
         ParallelHatchConfiguration config = new ParallelHatchConfiguration();
 
@@ -116,20 +129,18 @@ public class ParallelHatchConfig {
         saveConfig(configPath, config);
     }
 
-    private static void loadConfig(Path configPath) {
-        try {
-            String json = Files.readString(configPath);
-            ParallelHatchConfiguration config = GSON.fromJson(json, ParallelHatchConfiguration.class);
+    // Parse, drop unknown blocks and swap in. Throws without touching the current entries if the file can't be used
+    private static void loadConfig(Path configPath) throws IOException {
+        ParallelHatchConfiguration config = ConfigBlocks.read(GSON, configPath, ParallelHatchConfiguration.class);
+        if (config.parallelHatches == null) {
+            throw new IOException("Invalid config file structure: no parallelHatches list");
+        }
 
-            if (config != null && config.parallelHatches != null) {
-                parallelHatches.clear();
-                parallelHatches.addAll(config.parallelHatches);
+        List<ParallelHatchEntry> loaded = ConfigBlocks.dropUnknown(config.parallelHatches, h -> h.blockId, CONFIG_FILE);
+        loaded.sort(Comparator.comparingInt(h -> h.tier));
+        parallelHatches = Collections.unmodifiableList(loaded);
 
-                LOGGER.info("Loaded {} parallel hatches from config", config.parallelHatches.size());
-            }
-        } catch (IOException | JsonSyntaxException e) {
-            LOGGER.error("Failed to load parallel hatch config: {}", e.getMessage());
-        }
+        LOGGER.info("Loaded {} parallel hatches from config", loaded.size());
     }
 
     private static void saveConfig(Path configPath, ParallelHatchConfiguration config) {
@@ -143,10 +154,6 @@ public class ParallelHatchConfig {
         }
     }
 
-    private static void organizeHatches() {
-        parallelHatches.sort(Comparator.comparingInt(h -> h.tier));
-    }
-
     // Public API
     public static List<ParallelHatchEntry> getAllParallelHatches() {
         return new ArrayList<>(parallelHatches);
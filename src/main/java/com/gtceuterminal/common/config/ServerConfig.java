@@ -10,6 +10,8 @@ public class ServerConfig {
     // Configuration options
     public static final ForgeConfigSpec.IntValue MULTIBLOCK_SCAN_RADIUS;
     public static final ForgeConfigSpec.BooleanValue ENABLE_AE2_INTEGRATION;
+    public static final ForgeConfigSpec.BooleanValue ENABLE_NEARBY_ME_FALLBACK;
+    public static final ForgeConfigSpec.IntValue NEARBY_ME_SCAN_RADIUS;
     public static final ForgeConfigSpec.BooleanValue ENABLE_DEBUG_LOGGING;
 
     static {
@@ -26,6 +28,14 @@ public class ServerConfig {
                 .comment("Enable Applied Energistics 2 integration (default: true)")
                 .define("enableAE2Integration", true);
 
+        ENABLE_NEARBY_ME_FALLBACK = builder
+                .comment("Pull missing materials from ME networks next to the player when the wireless link can't provide them (default: true)")
+                .define("enableNearbyMENetworkFallback", true);
+
+        NEARBY_ME_SCAN_RADIUS = builder
+                .comment("Radius in blocks searched for nearby ME networks (default: 16)")
+                .defineInRange("nearbyMENetworkRadius", 16, 1, 64);
+
         ENABLE_DEBUG_LOGGING = builder
                 .comment("Enable debug logging for troubleshooting (default: false)")
                 .define("enableDebugLogging", false);
@@ -43,6 +53,14 @@ public class ServerConfig {
         return ENABLE_AE2_INTEGRATION.get();
     }
 
+    public static boolean isNearbyMEFallbackEnabled() {
+        return ENABLE_NEARBY_ME_FALLBACK.get();
+    }
+
+    public static int getNearbyMEScanRadius() {
+        return NEARBY_ME_SCAN_RADIUS.get();
+    }
+
     public static boolean isDebugLoggingEnabled() {
         return ENABLE_DEBUG_LOGGING.get();
     }
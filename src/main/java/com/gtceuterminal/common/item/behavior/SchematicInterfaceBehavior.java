@@ -13,9 +13,13 @@ import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.InteractionResultHolder;
+import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -32,7 +36,9 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 import net.minecraft.world.item.Items;
 import com.gtceuterminal.common.material.MaterialCalculator;
-import com.gtceuterminal.common.ae2.MENetworkItemExtractor;
+import com.gtceuterminal.common.ae2.AE2Integration;
+import com.gtceuterminal.common.ae2.MECraftingPlanner;
+import com.gtceuterminal.common.material.MaterialReservation;
 
 public class SchematicInterfaceBehavior {
 
@@ -330,6 +336,13 @@ public class SchematicInterfaceBehavior {
         GTCEUTerminalMod.LOGGER.info("Pasting schematic at {} - Original facing: {}, Player facing: {}, Rotation steps: {}",
                 targetPos, originalFacing, playerFacing, rotationSteps);
 
+        pasteSchematic(itemStack, player, level, targetPos, clipboard, rotationSteps);
+    }
+
+    // Paste with a fixed rotation (also used to resume a paste once autocrafting delivered the materials)
+    private void pasteSchematic(ItemStack itemStack, Player player, Level level, BlockPos targetPos,
+                                SchematicData clipboard, int rotationSteps) {
+
         // === FIRST PASS: compute placements + required materials ===
         Map<Item, Integer> required = new HashMap<>();
         List<Placement> placements = new ArrayList<>();
@@ -390,34 +403,38 @@ public class SchematicInterfaceBehavior {
 
         // === MATERIAL CHECK / EXTRACTION (SURVIVAL ONLY) ===
         if (!player.getAbilities().instabuild) {
-            MENetworkItemExtractor.ExtractResult result =
-                    MENetworkItemExtractor.tryExtractFromMEOrInventory(itemStack, level, player, required);
+            // One transaction over ME Network, inventory, backpacks and nearby storage
+            MaterialReservation reservation = MaterialCalculator.reserveMaterials(required, player, level, itemStack);
+
+            if (!reservation.isComplete() || !reservation.commit()) {
+                // The plan can take minutes: keep the dimension and the schematic itself, re-read the rest on resume
+                ResourceKey<Level> dimension = level.dimension();
+                CompoundTag clipboardTag = itemStack.getTag().getCompound("Clipboard").copy();
+                if (player instanceof ServerPlayer serverPlayer && AE2Integration.isAE2Loaded()
+                        && MECraftingPlanner.planForTerminal(itemStack, serverPlayer, reservation.getMissing(),
+                                p -> resumePaste(p, dimension, clipboardTag, targetPos, rotationSteps))) {
+                    player.displayClientMessage(
+                            Component.literal("§eCrafting missing materials in ME Network, paste will resume when done"),
+                            true
+                    );
+                    return;
+                }
 
-            if (!result.success) {
-                // Build missing list (Inventory + ME only)
-                Map<Item, Integer> inv = MaterialCalculator.scanPlayerInventory(player);
+                if (reservation.isComplete()) {
+                    player.displayClientMessage(Component.literal("§cFailed to extract materials"), true);
+                    return;
+                }
 
                 StringBuilder sb = new StringBuilder("§cMissing materials: ");
                 int shown = 0;
 
-                for (Map.Entry<Item, Integer> req : required.entrySet()) {
-                    Item it = req.getKey();
-                    int need = req.getValue();
-
-                    int haveInv = inv.getOrDefault(it, 0);
-                    long haveME = MENetworkItemExtractor.checkItemAvailability(itemStack, level, player, it);
-
-                    long have = (long) haveInv + haveME;
-                    long miss = need - have;
-
-                    if (miss > 0) {
-                        if (shown > 0) sb.append("§7, ");
-                        sb.append("§f").append(it.getDescription().getString()).append("§7 x").append(miss);
-                        shown++;
-                        if (shown >= 6) {
-                            sb.append("§7 ...");
-                            break;
-                        }
+                for (Map.Entry<Item, Long> miss : reservation.getMissing().entrySet()) {
+                    if (shown > 0) sb.append("§7, ");
+                    sb.append("§f").append(miss.getKey().getDescription().getString()).append("§7 x").append(miss.getValue());
+                    shown++;
+                    if (shown >= 6) {
+                        sb.append("§7 ...");
+                        break;
                     }
                 }
 
@@ -457,6 +474,47 @@ public class SchematicInterfaceBehavior {
         GTCEUTerminalMod.LOGGER.info("Schematic pasted: {} blocks placed, {} skipped", placedCount, skippedCount);
     }
 
+    /**
+     * Continue a paste once autocrafting finished
+     * Dropped if the player changed dimension or no longer carries a schematic interface holding the
+     * same schematic; the placements themselves are recomputed against the world as it is now
+     */
+    private void resumePaste(ServerPlayer player, ResourceKey<Level> dimension, CompoundTag clipboardTag,
+                             BlockPos targetPos, int rotationSteps) {
+        ServerLevel level = player.server.getLevel(dimension);
+        if (level == null || player.level() != level) {
+            player.displayClientMessage(
+                    Component.literal("§cPaste cancelled: you are no longer in the dimension it was started in"),
+                    true
+            );
+            return;
+        }
+
+        ItemStack itemStack = findSchematicStack(player, clipboardTag);
+        if (itemStack.isEmpty()) {
+            player.displayClientMessage(
+                    Component.literal("§cPaste cancelled: the schematic is no longer in your inventory"),
+                    true
+            );
+            return;
+        }
+
+        SchematicData clipboard = SchematicData.fromNBT(clipboardTag, level.registryAccess());
+        pasteSchematic(itemStack, player, level, targetPos, clipboard, rotationSteps);
+    }
+
+    private static ItemStack findSchematicStack(Player player, CompoundTag clipboardTag) {
+        Inventory inventory = player.getInventory();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            CompoundTag tag = stack.getTag();
+            if (tag != null && tag.contains("Clipboard") && tag.getCompound("Clipboard").equals(clipboardTag)) {
+                return stack;
+            }
+        }
+        return ItemStack.EMPTY;
+    }
+
     private record Placement(BlockPos relativeKey, BlockPos worldPos, BlockState state) {}
 
 
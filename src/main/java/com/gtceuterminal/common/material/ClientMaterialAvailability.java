@@ -0,0 +1,105 @@
+package com.gtceuterminal.common.material;
+
+import com.gtceuterminal.common.network.CPacketMaterialAvailabilityRequest;
+import com.gtceuterminal.common.network.TerminalNetwork;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Client copy of the server's material availability, per requirement set
+ * The client can't see ME networks or unopened chests, so dialogs show what the server
+ * last reported. Each set is re-requested at most once per REFRESH_MS and the server
+ * only answers when the numbers changed; getVersion(required) moves when that set's answer arrives
+ * Lives in common (nothing here touches client classes) so MaterialCalculator can call it on either side
+ */
+public class ClientMaterialAvailability {
+
+    private static final long REFRESH_MS = 1000;
+    private static final long FORGET_MS = 60_000;
+
+    // By the exact requirement set; the int id is what goes over the wire
+    private static final Map<LongArrayList, Entry> ENTRIES = new HashMap<>();
+    private static final Int2ObjectMap<Entry> BY_ID = new Int2ObjectOpenHashMap<>();
+    private static int nextId = 0;
+    // Shared counter so a forgotten and re-created entry never repeats an old version
+    private static int versionCounter = 0;
+
+    /**
+     * Last server answer for this requirement set, or null if none yet
+     * Also asks the server again if the answer is older than REFRESH_MS
+     */
+    @Nullable
+    public static List<MaterialAvailability> get(Map<Item, Integer> required) {
+        long now = System.currentTimeMillis();
+        ENTRIES.values().removeIf(entry -> {
+            if (now - entry.lastUsed > FORGET_MS) {
+                BY_ID.remove(entry.id);
+                return true;
+            }
+            return false;
+        });
+
+        Entry entry = ENTRIES.computeIfAbsent(keyOf(required), k -> {
+            Entry created = new Entry(nextId++);
+            BY_ID.put(created.id, created);
+            return created;
+        });
+        entry.lastUsed = now;
+
+        if (now - entry.requestedAt >= REFRESH_MS) {
+            entry.requestedAt = now;
+            TerminalNetwork.CHANNEL.sendToServer(new CPacketMaterialAvailabilityRequest(entry.id, entry.resultHash, required));
+        }
+
+        return entry.result;
+    }
+
+    public static void accept(int id, long resultHash, List<MaterialAvailability> result) {
+        Entry entry = BY_ID.get(id);
+        if (entry == null) {
+            return;
+        }
+
+        entry.resultHash = resultHash;
+        entry.result = List.copyOf(result);
+        entry.version = ++versionCounter;
+    }
+
+    // Moves only when an answer for this requirement set arrives, 0 before the first one
+    public static int getVersion(Map<Item, Integer> required) {
+        Entry entry = ENTRIES.get(keyOf(required));
+        return entry != null ? entry.version : 0;
+    }
+
+    // Order-independent, collision-free key: sorted (registry id, count) pairs
+    private static LongArrayList keyOf(Map<Item, Integer> required) {
+        LongArrayList key = new LongArrayList(required.size());
+        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
+            key.add((long) BuiltInRegistries.ITEM.getId(entry.getKey()) << 32 | (entry.getValue() & 0xFFFFFFFFL));
+        }
+        key.sort(null);
+        return key;
+    }
+
+    private static class Entry {
+        final int id;
+        long requestedAt = 0;
+        long lastUsed = 0;
+        long resultHash = 0;
+        int version = 0;
+        @Nullable
+        List<MaterialAvailability> result;
+
+        Entry(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Material source over any IItemHandler (backpacks, chests, other storage blocks)
+public class ItemHandlerSource implements MaterialSource {
+
+    private final Type type;
+    private final IItemHandler handler;
+    private final Runnable onChanged;
+
+    public ItemHandlerSource(Type type, IItemHandler handler) {
+        this(type, handler, () -> {});
+    }
+
+    // onChanged runs after a real extract/insert (e.g. BlockEntity#setChanged)
+    public ItemHandlerSource(Type type, IItemHandler handler, Runnable onChanged) {
+        this.type = type;
+        this.handler = handler;
+        this.onChanged = onChanged;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public void count(Collection<Item> items, Map<Item, Long> into) {
+        for (int slot = 0; slot < handler.getSlots(); slot++) {
+            ItemStack stack = handler.getStackInSlot(slot);
+            if (!stack.isEmpty() && items.contains(stack.getItem())) {
+                into.merge(stack.getItem(), (long) stack.getCount(), Long::sum);
+            }
+        }
+    }
+
+    @Override
+    public long extract(Item item, long amount, boolean simulate) {
+        long taken = 0;
+        for (int slot = 0; slot < handler.getSlots() && taken < amount; slot++) {
+            ItemStack stack = handler.getStackInSlot(slot);
+            if (stack.isEmpty() || stack.getItem() != item) continue;
+
+            int request = (int) Math.min(amount - taken, Integer.MAX_VALUE);
+            taken += handler.extractItem(slot, request, simulate).getCount();
+        }
+
+        if (!simulate && taken > 0) {
+            onChanged.run();
+        }
+        return taken;
+    }
+
+    @Override
+    public long insert(Item item, long amount) {
+        long remaining = amount;
+        while (remaining > 0) {
+            int batch = (int) Math.min(remaining, item.getMaxStackSize());
+            ItemStack leftover = ItemHandlerHelper.insertItemStacked(handler, new ItemStack(item, batch), false);
+            remaining -= batch - leftover.getCount();
+            if (!leftover.isEmpty()) break;
+        }
+
+        if (remaining < amount) {
+            onChanged.run();
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+
+// Who is asking for materials, where, and with which terminal (may be empty)
+public record MaterialContext(Player player, Level level, ItemStack terminal) {
+
+    public boolean hasTerminal() {
+        return terminal != null && !terminal.isEmpty();
+    }
+}
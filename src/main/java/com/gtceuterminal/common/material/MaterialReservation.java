@@ -0,0 +1,107 @@
+package com.gtceuterminal.common.material;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import net.minecraft.world.item.Item;
+
+import java.util.*;
+
+/**
+ * All-or-nothing extraction across the sources of a session
+ * Phase one simulates against every source in priority order, which both verifies the
+ * materials are really there (not just in a possibly stale snapshot) and produces the
+ * batched plan: one extract call per source and item. Nothing is moved until {@link #commit()},
+ * which takes everything or returns what it took
+ */
+public class MaterialReservation {
+
+    private final MaterialContext context;
+    private final List<Allocation> allocations = new ArrayList<>();
+    private final Map<Item, Long> missing = new LinkedHashMap<>();
+    private boolean committed = false;
+
+    MaterialReservation(MaterialContext context, List<MaterialSource> sources, Map<Item, Integer> required) {
+        this.context = context;
+        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
+            long remaining = entry.getValue();
+            for (MaterialSource source : sources) {
+                if (remaining <= 0) break;
+
+                long take = source.extract(entry.getKey(), remaining, true);
+                if (take > 0) {
+                    allocations.add(new Allocation(source, entry.getKey(), take));
+                    remaining -= take;
+                }
+            }
+            if (remaining > 0) {
+                missing.put(entry.getKey(), remaining);
+            }
+        }
+    }
+
+    public boolean isComplete() {
+        return missing.isEmpty();
+    }
+
+    // Items the sources can't cover, and by how much
+    public Map<Item, Long> getMissing() {
+        return Collections.unmodifiableMap(missing);
+    }
+
+    public List<Allocation> getAllocations() {
+        return Collections.unmodifiableList(allocations);
+    }
+
+    // Whether any part of the plan comes from a source of this type
+    public boolean usesSource(MaterialSource.Type type) {
+        for (Allocation allocation : allocations) {
+            if (allocation.source().getType() == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Phase two: extract every allocation in one pass
+     * If a source gives less than it simulated (something drained it in between) everything
+     * taken so far is returned; what a source won't take back goes to the player
+     * @return true if all materials were taken
+     */
+    public boolean commit() {
+        if (committed || !isComplete()) {
+            return false;
+        }
+        committed = true;
+
+        List<Allocation> taken = new ArrayList<>();
+        for (Allocation allocation : allocations) {
+            long got = allocation.source().extract(allocation.item(), allocation.amount(), false);
+            if (got > 0) {
+                taken.add(new Allocation(allocation.source(), allocation.item(), got));
+            }
+
+            if (got < allocation.amount()) {
+                GTCEUTerminalMod.LOGGER.warn("Source {} gave {} of {} {}, rolling back",
+                        allocation.source().getType(), got, allocation.amount(), allocation.item());
+                rollback(taken);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rollback(List<Allocation> taken) {
+        PlayerInventorySource fallback = new PlayerInventorySource(context.player());
+        for (Allocation allocation : taken) {
+            long rejected = allocation.source().insert(allocation.item(), allocation.amount());
+            if (rejected > 0) {
+                GTCEUTerminalMod.LOGGER.warn("{} would not take back {} {}, giving them to the player",
+                        allocation.source().getType(), rejected, allocation.item());
+                fallback.insert(allocation.item(), rejected);
+            }
+        }
+    }
+
+    public record Allocation(MaterialSource source, Item item, long amount) {}
+}
@@ -0,0 +1,43 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.item.Item;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// The prioritised sources for one operation. Open through MaterialSources.open
+public class MaterialSession {
+
+    private final MaterialContext context;
+    private final List<MaterialSource> sources;
+
+    MaterialSession(MaterialContext context, List<MaterialSource> sources) {
+        this.context = context;
+        this.sources = List.copyOf(sources);
+    }
+
+    public MaterialContext getContext() {
+        return context;
+    }
+
+    public List<MaterialSource> getSources() {
+        return sources;
+    }
+
+    // A session over the subset of sources whose type passes the filter
+    public MaterialSession only(Predicate<MaterialSource.Type> filter) {
+        return new MaterialSession(context, sources.stream().filter(source -> filter.test(source.getType())).toList());
+    }
+
+    // Count the items once across all sources
+    public MaterialSnapshot snapshot(Collection<Item> items) {
+        return new MaterialSnapshot(sources, items);
+    }
+
+    // Simulate taking the required items and plan where each comes from
+    public MaterialReservation reserve(Map<Item, Integer> required) {
+        return new MaterialReservation(context, sources, required);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.item.Item;
+
+import java.util.*;
+
+/**
+ * Counts of a fixed item set across every source of a session, taken once per operation
+ * Availability display and missing-material messages read from the same snapshot
+ */
+public class MaterialSnapshot {
+
+    private final List<MaterialSource> sources;
+    private final List<Map<Item, Long>> counts;
+
+    MaterialSnapshot(List<MaterialSource> sources, Collection<Item> items) {
+        this.sources = sources;
+        this.counts = new ArrayList<>(sources.size());
+
+        Set<Item> wanted = items instanceof Set<Item> set ? set : new HashSet<>(items);
+        for (MaterialSource source : sources) {
+            Map<Item, Long> sourceCounts = new HashMap<>();
+            source.count(wanted, sourceCounts);
+            counts.add(sourceCounts);
+        }
+    }
+
+    public List<MaterialSource> getSources() {
+        return sources;
+    }
+
+    public long getCount(int sourceIndex, Item item) {
+        return counts.get(sourceIndex).getOrDefault(item, 0L);
+    }
+
+    public long getTotal(Item item) {
+        long total = 0;
+        for (Map<Item, Long> sourceCounts : counts) {
+            total += sourceCounts.getOrDefault(item, 0L);
+        }
+        return total;
+    }
+
+    public long getTotal(MaterialSource.Type type, Item item) {
+        long total = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i).getType() == type) {
+                total += getCount(i, item);
+            }
+        }
+        return total;
+    }
+
+    // Per-item availability split into the inventory / nearby storage / ME columns the UI shows
+    public List<MaterialAvailability> toAvailability(Map<Item, Integer> required) {
+        List<MaterialAvailability> availability = new ArrayList<>();
+        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
+            Item item = entry.getKey();
+            MaterialAvailability mat = new MaterialAvailability(item, entry.getValue());
+            mat.setInInventory(clampToInt(getTotal(MaterialSource.Type.INVENTORY, item)
+                    + getTotal(MaterialSource.Type.CONTAINER_ITEM, item)));
+            mat.setInNearbyChests(clampToInt(getTotal(MaterialSource.Type.NEARBY_STORAGE, item)));
+            mat.setInMENetwork(getTotal(MaterialSource.Type.ME_NETWORK, item));
+            availability.add(mat);
+        }
+        return availability;
+    }
+
+    private static int clampToInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+}
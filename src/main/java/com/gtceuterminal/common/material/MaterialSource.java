@@ -0,0 +1,32 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.item.Item;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * One place materials can be taken from (player inventory, a backpack, a nearby chest, an ME grid...)
+ * Sources are created per operation by a {@link MaterialSourceProvider} and queried through a {@link MaterialSession}
+ */
+public interface MaterialSource {
+
+    Type getType();
+
+    // Add the stored amount of each requested item to into (items the source doesn't hold can be left out)
+    void count(Collection<Item> items, Map<Item, Long> into);
+
+    // Take up to amount of item, returns how many were (or would be) taken
+    long extract(Item item, long amount, boolean simulate);
+
+    // Put items back (rollback), returns how many could NOT be inserted
+    long insert(Item item, long amount);
+
+    // Source categories, also used to fill MaterialAvailability's per-source columns
+    enum Type {
+        ME_NETWORK,
+        INVENTORY,
+        CONTAINER_ITEM,
+        NEARBY_STORAGE
+    }
+}
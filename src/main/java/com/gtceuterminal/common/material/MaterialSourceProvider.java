@@ -0,0 +1,10 @@
+package com.gtceuterminal.common.material;
+
+import java.util.List;
+
+// Contributes the sources it knows about for one operation - register through MaterialSources.register
+@FunctionalInterface
+public interface MaterialSourceProvider {
+
+    void collect(MaterialContext context, List<MaterialSource> out);
+}
@@ -0,0 +1,82 @@
+package com.gtceuterminal.common.material;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of material source providers
+ * Every extraction and availability check opens one session here, so all of them see the
+ * same sources in the same order. Lower priority is drained first
+ */
+public class MaterialSources {
+
+    public static final int PRIORITY_ME_NETWORK = 0;
+    public static final int PRIORITY_INVENTORY = 100;
+    public static final int PRIORITY_CONTAINER_ITEMS = 200;
+    public static final int PRIORITY_NEARBY_STORAGE = 300;
+    // Networks the player merely stands next to come after everything they carry or placed nearby
+    public static final int PRIORITY_NEARBY_ME_NETWORK = 400;
+
+    public static final int STORAGE_SCAN_RADIUS = 3;
+
+    private static final List<Registered> PROVIDERS = new CopyOnWriteArrayList<>();
+
+    static {
+        register(PRIORITY_INVENTORY, (context, out) -> out.add(new PlayerInventorySource(context.player())));
+        register(PRIORITY_CONTAINER_ITEMS, MaterialSources::collectContainerItems);
+        register(PRIORITY_NEARBY_STORAGE, MaterialSources::collectNearbyStorage);
+    }
+
+    // Add a provider. Mod integrations (e.g. AE2) register theirs during setup
+    public static void register(int priority, MaterialSourceProvider provider) {
+        PROVIDERS.add(new Registered(priority, provider));
+        PROVIDERS.sort(Comparator.comparingInt(Registered::priority));
+    }
+
+    public static MaterialSession open(Player player, Level level, ItemStack terminal) {
+        MaterialContext context = new MaterialContext(player, level, terminal);
+        List<MaterialSource> sources = new ArrayList<>();
+
+        for (Registered registered : PROVIDERS) {
+            try {
+                registered.provider().collect(context, sources);
+            } catch (Exception e) {
+                GTCEUTerminalMod.LOGGER.error("Material source provider failed", e);
+            }
+        }
+
+        return new MaterialSession(context, sources);
+    }
+
+    // Backpacks and other item containers carried by the player
+    private static void collectContainerItems(MaterialContext context, List<MaterialSource> out) {
+        Inventory inventory = context.player().getInventory();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (stack.isEmpty() || stack == context.terminal()) continue;
+
+            stack.getCapability(ForgeCapabilities.ITEM_HANDLER).ifPresent(handler ->
+                    out.add(new ItemHandlerSource(MaterialSource.Type.CONTAINER_ITEM, handler)));
+        }
+    }
+
+    private static void collectNearbyStorage(MaterialContext context, List<MaterialSource> out) {
+        NearbyStorageSource storage = NearbyStorageSource.discover(
+                context.level(), context.player().blockPosition(), STORAGE_SCAN_RADIUS);
+        if (storage.getStorageCount() > 0) {
+            out.add(storage);
+        }
+    }
+
+    private record Registered(int priority, MaterialSourceProvider provider) {}
+}
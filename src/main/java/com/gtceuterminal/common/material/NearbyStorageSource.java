@@ -0,0 +1,194 @@
+package com.gtceuterminal.common.material;
+
+import com.gregtechceu.gtceu.api.machine.IMachineBlockEntity;
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.common.machine.storage.CrateMachine;
+import com.gregtechceu.gtceu.common.machine.storage.QuantumChestMachine;
+
+import com.gtceuterminal.common.ae2.MEGridLocator;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BrewingStandBlockEntity;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+import net.minecraftforge.items.wrapper.InvWrapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Every item-handler storage block around a position, as one material source
+ * Storage is discovered once (from the block entity maps of loaded chunks) and an
+ * item -> slots index is built for the items asked about, so counting and extracting
+ * only touch slots that actually hold the item
+ */
+public class NearbyStorageSource implements MaterialSource {
+
+    private final List<Storage> storages = new ArrayList<>();
+    private final Map<Item, List<SlotRef>> index = new HashMap<>();
+
+    // One discovery pass over the cube around center
+    public static NearbyStorageSource discover(Level level, BlockPos center, int radius) {
+        NearbyStorageSource source = new NearbyStorageSource();
+        MEGridLocator.forEachBlockEntityInRange(level, center, radius, (pos, be) -> {
+            IItemHandler handler = getStorageHandler(be);
+            if (handler != null) {
+                source.storages.add(new Storage(be, handler));
+            }
+        });
+        return source;
+    }
+
+    /**
+     * The inventory to use for a block entity, or null if it isn't plain storage
+     * Chests use their own half so double chests aren't counted twice; processing blocks
+     * (furnaces, GTCEu machines and multiblock parts) are skipped so their inputs aren't raided
+     */
+    @Nullable
+    private static IItemHandler getStorageHandler(BlockEntity be) {
+        if (be instanceof ChestBlockEntity chest) {
+            return new InvWrapper(chest);
+        }
+        if (be instanceof AbstractFurnaceBlockEntity || be instanceof BrewingStandBlockEntity) {
+            return null;
+        }
+        if (be instanceof IMachineBlockEntity machineBE) {
+            MetaMachine machine = machineBE.getMetaMachine();
+            if (!(machine instanceof QuantumChestMachine) && !(machine instanceof CrateMachine)) {
+                return null;
+            }
+        }
+
+        IItemHandler handler = be.getCapability(ForgeCapabilities.ITEM_HANDLER, null).resolve().orElse(null);
+        if (handler == null) {
+            for (Direction side : Direction.values()) {
+                handler = be.getCapability(ForgeCapabilities.ITEM_HANDLER, side).resolve().orElse(null);
+                if (handler != null) break;
+            }
+        }
+        return handler;
+    }
+
+    public int getStorageCount() {
+        return storages.size();
+    }
+
+    @Override
+    public Type getType() {
+        return Type.NEARBY_STORAGE;
+    }
+
+    // Totals of everything stored, regardless of the index
+    public Map<Item, Long> countAll() {
+        Map<Item, Long> totals = new HashMap<>();
+        for (Storage storage : storages) {
+            IItemHandler handler = storage.handler();
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                ItemStack stack = handler.getStackInSlot(slot);
+                if (!stack.isEmpty()) {
+                    totals.merge(stack.getItem(), (long) stack.getCount(), Long::sum);
+                }
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    public void count(Collection<Item> items, Map<Item, Long> into) {
+        indexItems(items);
+        for (Item item : items) {
+            long total = 0;
+            for (SlotRef ref : index.getOrDefault(item, List.of())) {
+                ItemStack stack = ref.storage().handler().getStackInSlot(ref.slot());
+                if (stack.getItem() == item) {
+                    total += stack.getCount();
+                }
+            }
+            if (total > 0) {
+                into.merge(item, total, Long::sum);
+            }
+        }
+    }
+
+    @Override
+    public long extract(Item item, long amount, boolean simulate) {
+        indexItems(List.of(item));
+
+        long taken = 0;
+        for (SlotRef ref : index.getOrDefault(item, List.of())) {
+            if (taken >= amount) break;
+
+            IItemHandler handler = ref.storage().handler();
+            // The slot may have changed since indexing (hoppers, other players)
+            if (handler.getStackInSlot(ref.slot()).getItem() != item) continue;
+
+            int request = (int) Math.min(amount - taken, Integer.MAX_VALUE);
+            int got = handler.extractItem(ref.slot(), request, simulate).getCount();
+            if (got > 0) {
+                taken += got;
+                if (!simulate) {
+                    ref.storage().blockEntity().setChanged();
+                }
+            }
+        }
+        return taken;
+    }
+
+    @Override
+    public long insert(Item item, long amount) {
+        long remaining = amount;
+        for (Storage storage : storages) {
+            while (remaining > 0) {
+                int batch = (int) Math.min(remaining, item.getMaxStackSize());
+                ItemStack leftover = ItemHandlerHelper.insertItemStacked(storage.handler(), new ItemStack(item, batch), false);
+                remaining -= batch - leftover.getCount();
+                if (!leftover.isEmpty()) break;
+            }
+            storage.blockEntity().setChanged();
+            if (remaining <= 0) break;
+        }
+
+        // Slots may have been filled, rebuild the index for this item on next use
+        index.remove(item);
+        return remaining;
+    }
+
+    // Build index entries for items not seen yet, in one walk over all storage slots
+    private void indexItems(Collection<Item> items) {
+        Set<Item> missing = new HashSet<>();
+        for (Item item : items) {
+            if (!index.containsKey(item)) {
+                missing.add(item);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (Item item : missing) {
+            index.put(item, new ArrayList<>());
+        }
+
+        for (Storage storage : storages) {
+            IItemHandler handler = storage.handler();
+            for (int slot = 0; slot < handler.getSlots(); slot++) {
+                ItemStack stack = handler.getStackInSlot(slot);
+                if (!stack.isEmpty() && missing.contains(stack.getItem())) {
+                    index.get(stack.getItem()).add(new SlotRef(storage, slot));
+                }
+            }
+        }
+    }
+
+    private record Storage(BlockEntity blockEntity, IItemHandler handler) {}
+
+    private record SlotRef(Storage storage, int slot) {}
+}
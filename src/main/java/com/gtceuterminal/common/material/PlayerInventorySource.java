@@ -0,0 +1,71 @@
+package com.gtceuterminal.common.material;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Collection;
+import java.util.Map;
+
+// The player's own inventory. Items that can't be put back on rollback are dropped at the player
+public class PlayerInventorySource implements MaterialSource {
+
+    private final Player player;
+
+    public PlayerInventorySource(Player player) {
+        this.player = player;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.INVENTORY;
+    }
+
+    @Override
+    public void count(Collection<Item> items, Map<Item, Long> into) {
+        Inventory inventory = player.getInventory();
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (!stack.isEmpty() && items.contains(stack.getItem())) {
+                into.merge(stack.getItem(), (long) stack.getCount(), Long::sum);
+            }
+        }
+    }
+
+    @Override
+    public long extract(Item item, long amount, boolean simulate) {
+        Inventory inventory = player.getInventory();
+        long taken = 0;
+        for (int i = 0; i < inventory.getContainerSize() && taken < amount; i++) {
+            ItemStack stack = inventory.getItem(i);
+            if (stack.getItem() != item) continue;
+
+            int toTake = (int) Math.min(amount - taken, stack.getCount());
+            if (!simulate) {
+                stack.shrink(toTake);
+            }
+            taken += toTake;
+        }
+
+        if (!simulate && taken > 0) {
+            inventory.setChanged();
+        }
+        return taken;
+    }
+
+    @Override
+    public long insert(Item item, long amount) {
+        long remaining = amount;
+        while (remaining > 0) {
+            int batch = (int) Math.min(remaining, item.getMaxStackSize());
+            ItemStack stack = new ItemStack(item, batch);
+            player.getInventory().add(stack);
+            if (!stack.isEmpty()) {
+                player.drop(stack, false);
+            }
+            remaining -= batch;
+        }
+        return 0;
+    }
+}
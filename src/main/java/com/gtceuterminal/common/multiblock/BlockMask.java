@@ -0,0 +1,161 @@
+package com.gtceuterminal.common.multiblock;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * A block set stored as a bit mask over its bounding box
+ * Bit index is (y * sizeZ + z) * sizeX + x, relative to origin. On the wire the mask is either
+ * the raw bitset or alternating empty/filled run lengths, whichever is smaller - solid structures
+ * compress to a handful of runs
+ */
+public class BlockMask {
+
+    private static final byte ENCODING_BITS = 0;
+    private static final byte ENCODING_RUNS = 1;
+
+    private final BlockPos origin;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final BitSet bits;
+
+    public BlockMask(BlockPos origin, int sizeX, int sizeY, int sizeZ, BitSet bits) {
+        this.origin = origin;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.bits = bits;
+    }
+
+    public static BlockMask of(Collection<BlockPos> blocks) {
+        if (blocks.isEmpty()) {
+            return new BlockMask(BlockPos.ZERO, 0, 0, 0, new BitSet());
+        }
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (BlockPos pos : blocks) {
+            minX = Math.min(minX, pos.getX());
+            minY = Math.min(minY, pos.getY());
+            minZ = Math.min(minZ, pos.getZ());
+            maxX = Math.max(maxX, pos.getX());
+            maxY = Math.max(maxY, pos.getY());
+            maxZ = Math.max(maxZ, pos.getZ());
+        }
+
+        BlockMask mask = new BlockMask(new BlockPos(minX, minY, minZ),
+                maxX - minX + 1, maxY - minY + 1, maxZ - minZ + 1, new BitSet());
+        for (BlockPos pos : blocks) {
+            mask.bits.set(mask.index(pos.getX() - minX, pos.getY() - minY, pos.getZ() - minZ));
+        }
+        return mask;
+    }
+
+    public BlockPos getOrigin() {
+        return origin;
+    }
+
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    public BitSet getBits() {
+        return bits;
+    }
+
+    public int getBlockCount() {
+        return bits.cardinality();
+    }
+
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    public long getVolume() {
+        return (long) sizeX * sizeY * sizeZ;
+    }
+
+    public int index(int x, int y, int z) {
+        return (y * sizeZ + z) * sizeX + x;
+    }
+
+    // Local coordinates, anything outside the box is empty
+    public boolean contains(int x, int y, int z) {
+        if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) {
+            return false;
+        }
+        return bits.get(index(x, y, z));
+    }
+
+    public void write(FriendlyByteBuf buf) {
+        buf.writeBlockPos(origin);
+        buf.writeVarInt(sizeX);
+        buf.writeVarInt(sizeY);
+        buf.writeVarInt(sizeZ);
+
+        // Runs alternate empty/filled, starting with a (possibly zero-length) empty run
+        int volume = (int) getVolume();
+        IntArrayList runs = new IntArrayList();
+        int runBytes = 0;
+        boolean filled = false;
+        int cursor = 0;
+        while (cursor < volume) {
+            int next = filled ? bits.nextClearBit(cursor) : bits.nextSetBit(cursor);
+            if (next < 0 || next > volume) next = volume;
+            runs.add(next - cursor);
+            runBytes += FriendlyByteBuf.getVarIntSize(next - cursor);
+            cursor = next;
+            filled = !filled;
+        }
+
+        long[] words = bits.toLongArray();
+        if (runBytes < words.length * 8) {
+            buf.writeByte(ENCODING_RUNS);
+            buf.writeVarInt(runs.size());
+            for (int i = 0; i < runs.size(); i++) {
+                buf.writeVarInt(runs.getInt(i));
+            }
+        } else {
+            buf.writeByte(ENCODING_BITS);
+            buf.writeLongArray(words);
+        }
+    }
+
+    public static BlockMask read(FriendlyByteBuf buf) {
+        BlockPos origin = buf.readBlockPos();
+        int sizeX = buf.readVarInt();
+        int sizeY = buf.readVarInt();
+        int sizeZ = buf.readVarInt();
+
+        BitSet bits;
+        if (buf.readByte() == ENCODING_RUNS) {
+            bits = new BitSet();
+            int runCount = buf.readVarInt();
+            int cursor = 0;
+            for (int i = 0; i < runCount; i++) {
+                int length = buf.readVarInt();
+                if ((i & 1) == 1) {
+                    bits.set(cursor, cursor + length);
+                }
+                cursor += length;
+            }
+        } else {
+            bits = BitSet.valueOf(buf.readLongArray());
+        }
+        return new BlockMask(origin, sizeX, sizeY, sizeZ, bits);
+    }
+}
@@ -3,10 +3,18 @@ package com.gtceuterminal.common.multiblock;
 import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
 
 import com.gtceuterminal.GTCEUTerminalMod;
-import com.gtceuterminal.common.ae2.MENetworkItemExtractor;
 import com.gtceuterminal.common.data.BlockReplacementData;
+import com.gtceuterminal.common.material.MaterialCalculator;
+import com.gtceuterminal.common.material.MaterialReservation;
+import com.gtceuterminal.common.material.MaterialSource;
+import com.gtceuterminal.common.upgrade.BulkBlockPlacer;
+import com.gtceuterminal.common.upgrade.MachineStateTransfer;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -27,16 +35,13 @@ public class BlockReplacer {
             return false;
         }
 
-        BlockPos controllerPos = controller.self().getPos();
-
         Map<Block, Integer> required = calculateRequiredBlocks(data);
 
-        // Try ME Network first, then inventory
-        boolean hasResources = false;
-        MENetworkItemExtractor.ExtractionSource extractionSource = MENetworkItemExtractor.ExtractionSource.NONE;
+        // One transaction over ME Network, inventory, backpacks and nearby storage
+        boolean fromME = false;
 
         if (!player.isCreative()) {
-            // Convert Block to Item for ME extraction
+            // Convert Block to Item for extraction
             Map<Item, Integer> requiredItems = new HashMap<>();
             for (Map.Entry<Block, Integer> entry : required.entrySet()) {
                 Item item = entry.getKey().asItem();
@@ -45,25 +50,14 @@ public class BlockReplacer {
                 }
             }
 
-            // Try extract from ME or inventory
-            if (wirelessTerminal != null && !wirelessTerminal.isEmpty()) {
-                MENetworkItemExtractor.ExtractResult result =
-                        MENetworkItemExtractor.tryExtractFromMEOrInventory(
-                                wirelessTerminal, level, player, requiredItems
-                        );
-
-                hasResources = result.success;
-                extractionSource = result.source;
-            } else {
-                // No wireless terminal, use traditional method
-                hasResources = verifyAndConsumeInventory(player, required);
-                extractionSource = hasResources ? MENetworkItemExtractor.ExtractionSource.PLAYER_INVENTORY : MENetworkItemExtractor.ExtractionSource.NONE;
-            }
+            MaterialReservation reservation = MaterialCalculator.reserveMaterials(
+                    requiredItems, player, level, wirelessTerminal);
 
-            if (!hasResources) {
+            if (!reservation.isComplete() || !reservation.commit()) {
                 GTCEUTerminalMod.LOGGER.warn("Player {} doesn't have required resources", player.getName().getString());
                 return false;
             }
+            fromME = reservation.usesSource(MaterialSource.Type.ME_NETWORK);
         }
 
         com.gregtechceu.gtceu.api.pattern.MultiblockState state = controller.getMultiblockState();
@@ -84,58 +78,56 @@ public class BlockReplacer {
         }
 
         Map<Block, Integer> returned = new HashMap<>();
+        Replacements replacements = new Replacements(data);
 
-        BlockState fillCasing = data.getFillCasing();
-
-        Map<String, BlockState> typeReplacements = new HashMap<>();
-        for (Map.Entry<BlockState, BlockState> entry : data.getReplacements().entrySet()) {
-            String oldPath = entry.getKey().getBlock().builtInRegistryHolder().key().location().getPath();
-            typeReplacements.put(oldPath, entry.getValue());
-        }
-
+        // Resolve every position first and group the writes by chunk section
+        Long2ObjectMap<List<BlockPos>> bySection = new Long2ObjectLinkedOpenHashMap<>();
+        Map<BlockPos, BlockState> targets = new HashMap<>();
         for (BlockPos pos : positions) {
-            BlockState currentState = level.getBlockState(pos);
-            String currentPath = currentState.getBlock().builtInRegistryHolder().key().location().getPath();
-
-            BlockState newState = data.getReplacement(currentState);
-
-            if (newState == null && typeReplacements.containsKey(currentPath)) {
-                newState = typeReplacements.get(currentPath);
+            BlockState target = replacements.resolve(level.getBlockState(pos));
+            if (target != null) {
+                BlockPos immutable = pos.immutable();
+                targets.put(immutable, target);
+                bySection.computeIfAbsent(SectionPos.asLong(immutable), k -> new ArrayList<>()).add(immutable);
             }
+        }
 
-            if (newState != null && !currentState.equals(newState)) {
-                BlockState finalState = copyProperties(currentState, newState);
-                level.setBlock(pos, finalState, 3);
-                returned.merge(currentState.getBlock(), 1, Integer::sum);
-
-                updateNeighborBlocks(level, pos, finalState.getBlock());
-            } else if (fillCasing != null && isHatchOrBus(currentState)) {
-                boolean wasReplaced = data.getReplacements().containsKey(currentState) || typeReplacements.containsKey(currentPath);
-                if (!wasReplaced) {
-                    BlockState finalCasing = copyProperties(currentState, fillCasing);
-                    level.setBlock(pos, finalCasing, 3);
+        // Write with neighbour updates deferred, then one flush per section and one pattern check
+        BulkBlockPlacer placer = new BulkBlockPlacer(level);
+        placer.addController(controller);
+        List<ItemStack> itemOverflow = new ArrayList<>();
+        int kept = 0;
+
+        for (List<BlockPos> section : bySection.values()) {
+            for (BlockPos pos : section) {
+                BlockState currentState = level.getBlockState(pos);
+                // Hatches and buses hand their contents and covers on instead of dropping them,
+                // and stay in place if their fluids have nowhere to go (e.g. when filled with casing)
+                String failure = MachineStateTransfer.replace(level, pos, targets.get(pos), placer, player,
+                        wirelessTerminal, itemOverflow);
+                if (failure == null) {
                     returned.merge(currentState.getBlock(), 1, Integer::sum);
-
-                    updateNeighborBlocks(level, pos, finalCasing.getBlock());
+                } else {
+                    // The replacement was paid for but not placed, hand it back
+                    returned.merge(targets.get(pos).getBlock(), 1, Integer::sum);
+                    kept++;
+                    GTCEUTerminalMod.LOGGER.info("Kept {} at {}: {}", currentState.getBlock(), pos, failure);
                 }
             }
         }
 
         returnBlocks(player, returned);
+        if (kept > 0) {
+            player.displayClientMessage(net.minecraft.network.chat.Component.literal(
+                    "§e" + kept + " parts kept: their fluids had nowhere to go"), false);
+        }
 
-        try {
-            controller.checkPattern();
-
-            String sourceMsg = extractionSource == MENetworkItemExtractor.ExtractionSource.ME_NETWORK
-                    ? " (from ME Network)"
-                    : extractionSource == MENetworkItemExtractor.ExtractionSource.PLAYER_INVENTORY
-                    ? " (from Inventory)"
-                    : "";
+        placer.finish();
+        MachineStateTransfer.flushOverflow(itemOverflow, player, level, wirelessTerminal);
 
-            GTCEUTerminalMod.LOGGER.info("Multiblock pattern re-checked after block replacement{}", sourceMsg);
-        } catch (Exception e) {
-            GTCEUTerminalMod.LOGGER.error("Error rechecking pattern after replacement", e);
-        }
+        String sourceMsg = player.isCreative() ? "" : fromME ? " (from ME Network)" : " (from Inventory)";
+        GTCEUTerminalMod.LOGGER.info("Replaced {} blocks in {} sections, pattern re-checked{}",
+                placer.getPlacedCount(), bySection.size(), sourceMsg);
 
         return true;
     }
@@ -151,27 +143,6 @@ public class BlockReplacer {
         return path.contains("hatch") || path.contains("bus");
     }
 
-    private static void updateNeighborBlocks(Level level, BlockPos pos, Block newBlock) {
-        BlockPos[] neighbors = {
-                pos,           // The block itself
-                pos.above(), pos.below(),
-                pos.north(), pos.south(),
-                pos.east(), pos.west()
-        };
-
-        for (BlockPos neighborPos : neighbors) {
-            BlockState neighborState = level.getBlockState(neighborPos);
-            level.neighborChanged(neighborPos, newBlock, pos);
-            level.sendBlockUpdated(neighborPos, neighborState, neighborState, 11);
-        }
-
-        if (!level.isClientSide) {
-            var chunk = level.getChunkAt(pos);
-            chunk.setUnsaved(true);
-            level.getChunkSource().getLightEngine().checkBlock(pos);
-        }
-    }
-
     private static BlockState copyProperties(BlockState oldState, BlockState newState) {
         try {
             for (net.minecraft.world.level.block.state.properties.Property<?> property : oldState.getProperties()) {
@@ -191,6 +162,46 @@ public class BlockReplacer {
         return newState.setValue(property, oldState.getValue(property));
     }
 
+    /**
+     * Replacement rules resolved once per operation
+     * Exact state rules, then per-block rules (any state of the old block), then the hatch fill casing.
+     * Block states are interned, so every lookup is by identity and each distinct state is resolved once
+     */
+    private static class Replacements {
+        private final Map<BlockState, BlockState> exact = new IdentityHashMap<>();
+        private final Map<Block, BlockState> byBlock = new IdentityHashMap<>();
+        private final BlockState fillCasing;
+        private final Map<BlockState, Optional<BlockState>> resolved = new IdentityHashMap<>();
+
+        Replacements(BlockReplacementData data) {
+            for (Map.Entry<BlockState, BlockState> entry : data.getReplacements().entrySet()) {
+                exact.put(entry.getKey(), entry.getValue());
+                byBlock.put(entry.getKey().getBlock(), entry.getValue());
+            }
+            this.fillCasing = data.getFillCasing();
+        }
+
+        // Final state for the block currently at a position, or null to leave it alone
+        BlockState resolve(BlockState current) {
+            return resolved.computeIfAbsent(current, state -> Optional.ofNullable(compute(state))).orElse(null);
+        }
+
+        private BlockState compute(BlockState current) {
+            BlockState newState = exact.get(current);
+            if (newState == null) {
+                newState = byBlock.get(current.getBlock());
+            }
+
+            if (newState != null) {
+                return current.equals(newState) ? null : copyProperties(current, newState);
+            }
+            if (fillCasing != null && isHatchOrBus(current)) {
+                return copyProperties(current, fillCasing);
+            }
+            return null;
+        }
+    }
+
     private static Map<Block, Integer> calculateRequiredBlocks(BlockReplacementData data) {
         Map<Block, Integer> required = new HashMap<>();
 
@@ -209,59 +220,6 @@ public class BlockReplacer {
     }
 
 
-    // Verify and consume from player inventory (fallback method)
-    private static boolean verifyAndConsumeInventory(Player player, Map<Block, Integer> required) {
-        if (player.isCreative()) {
-            return true;
-        }
-
-        Map<Block, Integer> available = new HashMap<>();
-
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.isEmpty()) continue;
-
-            Block block = Block.byItem(stack.getItem());
-            if (block != null && required.containsKey(block)) {
-                available.merge(block, stack.getCount(), Integer::sum);
-            }
-        }
-
-        // Verify first
-        for (Map.Entry<Block, Integer> entry : required.entrySet()) {
-            int needed = entry.getValue();
-            int have = available.getOrDefault(entry.getKey(), 0);
-
-            if (have < needed) {
-                return false;
-            }
-        }
-
-        // Then consume
-        consumeBlocks(player, required);
-        return true;
-    }
-
-    private static void consumeBlocks(Player player, Map<Block, Integer> blocks) {
-        if (player.isCreative()) {
-            return;
-        }
-
-        for (Map.Entry<Block, Integer> entry : blocks.entrySet()) {
-            Block block = entry.getKey();
-            int needed = entry.getValue();
-
-            for (ItemStack stack : player.getInventory().items) {
-                if (needed <= 0) break;
-
-                if (Block.byItem(stack.getItem()) == block) {
-                    int toConsume = Math.min(stack.getCount(), needed);
-                    stack.shrink(toConsume);
-                    needed -= toConsume;
-                }
-            }
-        }
-    }
-
     private static void returnBlocks(Player player, Map<Block, Integer> blocks) {
         // Don't return blocks in creative mode
         if (player.isCreative()) {
@@ -3,14 +3,33 @@ package com.gtceuterminal.common.multiblock;
 import net.minecraft.core.BlockPos;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 public class ComponentGroup {
+
+    // Groups sort by type name, then block name, then tier
+    public static final Comparator<ComponentGroup> ORDER = Comparator
+            .comparing((ComponentGroup group) -> group.getType().getDisplayName())
+            .thenComparing(ComponentGroup::getBlockName)
+            .thenComparingInt(ComponentGroup::getTier);
+
+    // What makes two components land in the same group
+    public record Key(ComponentType type, int tier, String blockName) {
+        public static Key of(ComponentInfo component) {
+            return new Key(component.getType(), component.getTier(), component.getBlockName());
+        }
+    }
+
     private final ComponentType type;
     private final int tier;
     private final String blockName;
     private final List<ComponentInfo> components;
 
+    public ComponentGroup(Key key) {
+        this(key.type(), key.tier(), key.blockName());
+    }
+
     public ComponentGroup(ComponentType type, int tier, String blockName) {
         this.type = type;
         this.tier = tier;
@@ -59,11 +78,7 @@ public class ComponentGroup {
         return positions;
     }
 
-    public static String getGroupKey(ComponentType type, int tier, String blockName) {
-        return type.name() + "_" + tier + "_" + blockName;
-    }
-
-    public String getGroupKey() {
-        return getGroupKey(type, tier, blockName);
+    public Key getKey() {
+        return new Key(type, tier, blockName);
     }
 }
\ No newline at end of file
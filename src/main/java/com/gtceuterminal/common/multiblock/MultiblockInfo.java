@@ -1,11 +1,16 @@
 package com.gtceuterminal.common.multiblock;
 
 import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class MultiblockInfo {
     private final IMultiController controller;
@@ -16,6 +21,8 @@ public class MultiblockInfo {
     private final boolean isFormed;
     private final List<ComponentInfo> components;
     private MultiblockStatus status;
+    // Grouped and filtered views of the components, built once in the background
+    private volatile CompletableFuture<ComponentIndex> componentIndex;
 
     // Universal Scanner Support
     private String sourceMod = "gtceu";
@@ -67,39 +74,40 @@ public class MultiblockInfo {
     }
 
     public List<ComponentGroup> getGroupedComponents() {
-        java.util.Map<String, ComponentGroup> groups = new java.util.HashMap<>();
-
-        for (ComponentInfo comp : components) {
-            String blockName = comp.getBlockName();
-            String key = ComponentGroup.getGroupKey(comp.getType(), comp.getTier(), blockName);
+        return index().join().groups();
+    }
 
-            ComponentGroup group = groups.get(key);
-            if (group == null) {
-                group = new ComponentGroup(comp.getType(), comp.getTier(), blockName);
-                groups.put(key, group);
+    /**
+     * Start building the grouped views in the background if that hasn't happened yet
+     * Called when an entry arrives so the detail views find it done by the time they open
+     */
+    public void prepareComponentIndex() {
+        index();
+    }
+
+    private CompletableFuture<ComponentIndex> index() {
+        CompletableFuture<ComponentIndex> index = componentIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = componentIndex;
+                if (index == null) {
+                    List<ComponentInfo> snapshot = List.copyOf(components);
+                    index = CompletableFuture.supplyAsync(() -> ComponentIndex.build(snapshot), Util.backgroundExecutor());
+                    componentIndex = index;
+                }
             }
-
-            group.addComponent(comp);
         }
+        return index;
+    }
 
-        // Convert to list and sort by type name, then block name, then tier
-        List<ComponentGroup> result = new ArrayList<>(groups.values());
-        result.sort((a, b) -> {
-            // Sort by type first
-            int typeCompare = a.getType().getDisplayName().compareTo(b.getType().getDisplayName());
-            if (typeCompare != 0) return typeCompare;
-            // Then by block name
-            int nameCompare = a.getBlockName().compareTo(b.getBlockName());
-            if (nameCompare != 0) return nameCompare;
-            // Then by tier
-            return Integer.compare(a.getTier(), b.getTier());
-        });
-
-        return result;
+    // Same components as another entry (e.g. only its status changed), reuse its views
+    void shareComponentIndex(MultiblockInfo other) {
+        this.componentIndex = other.componentIndex;
     }
 
     public void addComponent(ComponentInfo component) {
         components.add(component);
+        componentIndex = null;
     }
 
     public MultiblockStatus getStatus() {
@@ -132,21 +140,15 @@ public class MultiblockInfo {
     }
 
     public List<ComponentInfo> getComponentsByType(ComponentType type) {
-        return components.stream()
-                .filter(c -> c.getType() == type)
-                .toList();
+        return index().join().byType().getOrDefault(type, List.of());
     }
 
     public List<ComponentInfo> getUpgradeableComponents() {
-        return components.stream()
-                .filter(c -> c.getType().isUpgradeable())
-                .toList();
+        return index().join().upgradeable();
     }
 
     public int countComponentsOfType(ComponentType type) {
-        return (int) components.stream()
-                .filter(c -> c.getType() == type)
-                .count();
+        return getComponentsByType(type).size();
     }
 
     // ============================================
@@ -194,6 +196,30 @@ public class MultiblockInfo {
         };
     }
 
+    private record ComponentIndex(List<ComponentGroup> groups,
+                                  Map<ComponentType, List<ComponentInfo>> byType,
+                                  List<ComponentInfo> upgradeable) {
+
+        static ComponentIndex build(List<ComponentInfo> components) {
+            Map<ComponentGroup.Key, ComponentGroup> groups = new LinkedHashMap<>();
+            Map<ComponentType, List<ComponentInfo>> byType = new EnumMap<>(ComponentType.class);
+            List<ComponentInfo> upgradeable = new ArrayList<>();
+
+            for (ComponentInfo comp : components) {
+                groups.computeIfAbsent(ComponentGroup.Key.of(comp), ComponentGroup::new).addComponent(comp);
+                byType.computeIfAbsent(comp.getType(), type -> new ArrayList<>()).add(comp);
+                if (comp.getType().isUpgradeable()) {
+                    upgradeable.add(comp);
+                }
+            }
+
+            byType.replaceAll((type, list) -> List.copyOf(list));
+            List<ComponentGroup> sorted = new ArrayList<>(groups.values());
+            sorted.sort(ComponentGroup.ORDER);
+            return new ComponentIndex(List.copyOf(sorted), byType, List.copyOf(upgradeable));
+        }
+    }
+
     @Override
     public String toString() {
         return "MultiblockInfo{" +
@@ -0,0 +1,356 @@
+package com.gtceuterminal.common.multiblock;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.Block;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned list of the multiblocks around a player, owned by the server while the manager is open
+ * The client gets one full snapshot with the UI and afterwards only deltas: a status flip is a
+ * few bytes, a changed part list resends just that machine's parts. Changed entries are replaced
+ * with new objects rather than mutated, so anything holding the old one can tell it changed
+ */
+public class MultiblockModel {
+
+    public static final int SCAN_RADIUS = 32;
+
+    private static final byte OP_PUT = 0;
+    private static final byte OP_REMOVE = 1;
+    private static final byte OP_STATUS = 2;
+    private static final byte OP_COMPONENTS = 3;
+    private static final byte OP_DISTANCE = 4;
+    private static final byte OP_ORDER = 5;
+
+    private int version;
+    private List<MultiblockInfo> multiblocks = new ArrayList<>();
+
+    public static MultiblockModel scan(Player player) {
+        MultiblockModel model = new MultiblockModel();
+        model.multiblocks = new ArrayList<>(MultiblockScanner.scanNearbyMultiblocks(player, player.level(), SCAN_RADIUS));
+        return model;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<MultiblockInfo> getMultiblocks() {
+        return multiblocks;
+    }
+
+    // ============================================
+    // FULL SNAPSHOT
+    // ============================================
+
+    public void writeFull(FriendlyByteBuf buf) {
+        buf.writeVarInt(version);
+        buf.writeVarInt(multiblocks.size());
+        for (MultiblockInfo info : multiblocks) {
+            writeEntry(buf, info);
+        }
+    }
+
+    public static MultiblockModel readFull(FriendlyByteBuf buf) {
+        MultiblockModel model = new MultiblockModel();
+        model.version = buf.readVarInt();
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; i++) {
+            model.multiblocks.add(readEntry(buf));
+        }
+        model.multiblocks.forEach(MultiblockInfo::prepareComponentIndex);
+        return model;
+    }
+
+    // ============================================
+    // DELTAS
+    // ============================================
+
+    /**
+     * Server: take a fresh scan as the new state and write what changed since the last one
+     * @return false if nothing changed (nothing is written and the version stays)
+     */
+    public boolean update(List<MultiblockInfo> scanned, FriendlyByteBuf buf) {
+        Map<BlockPos, MultiblockInfo> previous = new HashMap<>();
+        for (MultiblockInfo info : multiblocks) {
+            previous.put(info.getControllerPos(), info);
+        }
+
+        FriendlyByteBuf ops = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            int opCount = 0;
+            Map<BlockPos, MultiblockInfo> current = new HashMap<>();
+            for (MultiblockInfo info : scanned) {
+                current.put(info.getControllerPos(), info);
+            }
+
+            // Order the client ends up with if no reorder is sent: survivors in place, new ones at the end
+            List<BlockPos> applied = new ArrayList<>();
+            for (MultiblockInfo old : multiblocks) {
+                if (!current.containsKey(old.getControllerPos())) {
+                    ops.writeByte(OP_REMOVE);
+                    ops.writeBlockPos(old.getControllerPos());
+                    opCount++;
+                } else {
+                    applied.add(old.getControllerPos());
+                }
+            }
+
+            for (MultiblockInfo info : scanned) {
+                BlockPos pos = info.getControllerPos();
+                MultiblockInfo old = previous.get(pos);
+                if (old == null || !sameHeader(old, info)) {
+                    ops.writeByte(OP_PUT);
+                    writeEntry(ops, info);
+                    opCount++;
+                    if (old == null) {
+                        applied.add(pos);
+                    }
+                    continue;
+                }
+                if (old.getStatus() != info.getStatus()) {
+                    ops.writeByte(OP_STATUS);
+                    ops.writeBlockPos(pos);
+                    ops.writeByte(info.getStatus().ordinal());
+                    opCount++;
+                }
+                if (!sameComponents(old.getComponents(), info.getComponents())) {
+                    ops.writeByte(OP_COMPONENTS);
+                    ops.writeBlockPos(pos);
+                    writeComponents(ops, pos, info.getComponents());
+                    opCount++;
+                }
+                // Only when the shown value would change, not on every step the player takes
+                if (!old.getDistanceString().equals(info.getDistanceString())) {
+                    ops.writeByte(OP_DISTANCE);
+                    ops.writeBlockPos(pos);
+                    ops.writeFloat((float) info.getDistanceFromPlayer());
+                    opCount++;
+                }
+            }
+
+            boolean reordered = applied.size() != scanned.size();
+            for (int i = 0; !reordered && i < scanned.size(); i++) {
+                reordered = !applied.get(i).equals(scanned.get(i).getControllerPos());
+            }
+            if (reordered) {
+                ops.writeByte(OP_ORDER);
+                ops.writeVarInt(scanned.size());
+                for (MultiblockInfo info : scanned) {
+                    ops.writeBlockPos(info.getControllerPos());
+                }
+                opCount++;
+            }
+
+            if (opCount == 0) {
+                return false;
+            }
+
+            version++;
+            multiblocks = new ArrayList<>(scanned);
+            buf.writeVarInt(version);
+            buf.writeVarInt(opCount);
+            buf.writeBytes(ops);
+            return true;
+        } finally {
+            ops.release();
+        }
+    }
+
+    /**
+     * Server: write a status-only delta for the given controllers (ignoring any no longer listed)
+     * @return false if none of them actually changed
+     */
+    public boolean updateStatuses(Map<BlockPos, MultiblockStatus> statuses, FriendlyByteBuf buf) {
+        List<MultiblockInfo> changed = new ArrayList<>();
+        for (int i = 0; i < multiblocks.size(); i++) {
+            MultiblockInfo info = multiblocks.get(i);
+            MultiblockStatus status = statuses.get(info.getControllerPos());
+            if (status != null && status != info.getStatus()) {
+                MultiblockInfo updated = copy(info, status, info.getDistanceFromPlayer(), info.getComponents());
+                multiblocks.set(i, updated);
+                changed.add(updated);
+            }
+        }
+        if (changed.isEmpty()) {
+            return false;
+        }
+
+        version++;
+        buf.writeVarInt(version);
+        buf.writeVarInt(changed.size());
+        for (MultiblockInfo info : changed) {
+            buf.writeByte(OP_STATUS);
+            buf.writeBlockPos(info.getControllerPos());
+            buf.writeByte(info.getStatus().ordinal());
+        }
+        return true;
+    }
+
+    // Client: apply a delta written by update or updateStatuses
+    public void applyDelta(FriendlyByteBuf buf) {
+        int newVersion = buf.readVarInt();
+        if (newVersion != version + 1) {
+            GTCEUTerminalMod.LOGGER.warn("Multiblock model jumped from version {} to {}", version, newVersion);
+        }
+
+        Map<BlockPos, MultiblockInfo> entries = new LinkedHashMap<>();
+        for (MultiblockInfo info : multiblocks) {
+            entries.put(info.getControllerPos(), info);
+        }
+
+        int opCount = buf.readVarInt();
+        for (int i = 0; i < opCount; i++) {
+            byte op = buf.readByte();
+            switch (op) {
+                case OP_PUT -> {
+                    MultiblockInfo info = readEntry(buf);
+                    entries.put(info.getControllerPos(), info);
+                }
+                case OP_REMOVE -> entries.remove(buf.readBlockPos());
+                case OP_STATUS -> {
+                    BlockPos pos = buf.readBlockPos();
+                    MultiblockStatus status = MultiblockStatus.values()[buf.readByte()];
+                    entries.computeIfPresent(pos, (p, old) -> copy(old, status, old.getDistanceFromPlayer(), old.getComponents()));
+                }
+                case OP_COMPONENTS -> {
+                    BlockPos pos = buf.readBlockPos();
+                    List<ComponentInfo> components = readComponents(buf, pos);
+                    entries.computeIfPresent(pos, (p, old) -> copy(old, old.getStatus(), old.getDistanceFromPlayer(), components));
+                }
+                case OP_DISTANCE -> {
+                    BlockPos pos = buf.readBlockPos();
+                    double distance = buf.readFloat();
+                    entries.computeIfPresent(pos, (p, old) -> copy(old, old.getStatus(), distance, old.getComponents()));
+                }
+                case OP_ORDER -> {
+                    Map<BlockPos, MultiblockInfo> ordered = new LinkedHashMap<>();
+                    int count = buf.readVarInt();
+                    for (int j = 0; j < count; j++) {
+                        BlockPos pos = buf.readBlockPos();
+                        MultiblockInfo info = entries.get(pos);
+                        if (info != null) {
+                            ordered.put(pos, info);
+                        }
+                    }
+                    entries = ordered;
+                }
+                default -> throw new IllegalStateException("Unknown multiblock model op " + op);
+            }
+        }
+
+        version = newVersion;
+        multiblocks = new ArrayList<>(entries.values());
+        // Group new or changed entries now, off the render thread
+        multiblocks.forEach(MultiblockInfo::prepareComponentIndex);
+    }
+
+    // ============================================
+    // WIRE FORMAT
+    // ============================================
+
+    // Client side there is no controller object, everything the UI shows travels here
+    private static void writeEntry(FriendlyByteBuf buf, MultiblockInfo info) {
+        BlockPos pos = info.getControllerPos();
+        buf.writeBlockPos(pos);
+        buf.writeUtf(info.getName());
+        buf.writeVarInt(info.getTier());
+        buf.writeBoolean(info.isFormed());
+        buf.writeUtf(info.getSourceMod());
+        buf.writeByte(info.getStatus().ordinal());
+        buf.writeFloat((float) info.getDistanceFromPlayer());
+        writeComponents(buf, pos, info.getComponents());
+    }
+
+    private static MultiblockInfo readEntry(FriendlyByteBuf buf) {
+        BlockPos pos = buf.readBlockPos();
+        MultiblockInfo info = new MultiblockInfo(null, buf.readUtf(), pos, buf.readVarInt(), 0, buf.readBoolean());
+        info.setSourceMod(buf.readUtf());
+        MultiblockStatus status = MultiblockStatus.values()[buf.readByte()];
+        return copy(info, status, buf.readFloat(), readComponents(buf, pos));
+    }
+
+    // Parts sit next to their controller, so positions go as small zigzag offsets from it
+    private static void writeComponents(FriendlyByteBuf buf, BlockPos controllerPos, List<ComponentInfo> components) {
+        buf.writeVarInt(components.size());
+        for (ComponentInfo comp : components) {
+            buf.writeVarInt(comp.getType().ordinal());
+            buf.writeVarInt(comp.getTier());
+            writeOffset(buf, comp.getPosition().getX() - controllerPos.getX());
+            writeOffset(buf, comp.getPosition().getY() - controllerPos.getY());
+            writeOffset(buf, comp.getPosition().getZ() - controllerPos.getZ());
+            buf.writeVarInt(Block.getId(comp.getState()));
+        }
+    }
+
+    private static List<ComponentInfo> readComponents(FriendlyByteBuf buf, BlockPos controllerPos) {
+        int count = buf.readVarInt();
+        List<ComponentInfo> components = new ArrayList<>(count);
+        ComponentType[] types = ComponentType.values();
+        for (int i = 0; i < count; i++) {
+            ComponentType type = types[buf.readVarInt()];
+            int tier = buf.readVarInt();
+            BlockPos pos = controllerPos.offset(readOffset(buf), readOffset(buf), readOffset(buf));
+            components.add(new ComponentInfo(type, tier, pos, Block.stateById(buf.readVarInt())));
+        }
+        return components;
+    }
+
+    private static void writeOffset(FriendlyByteBuf buf, int offset) {
+        buf.writeVarInt((offset << 1) ^ (offset >> 31));
+    }
+
+    private static int readOffset(FriendlyByteBuf buf) {
+        int zigzag = buf.readVarInt();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    // ============================================
+    // COMPARISON
+    // ============================================
+
+    private static boolean sameHeader(MultiblockInfo a, MultiblockInfo b) {
+        return a.getName().equals(b.getName())
+                && a.getTier() == b.getTier()
+                && a.isFormed() == b.isFormed()
+                && a.getSourceMod().equals(b.getSourceMod());
+    }
+
+    private static boolean sameComponents(List<ComponentInfo> a, List<ComponentInfo> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            ComponentInfo x = a.get(i);
+            ComponentInfo y = b.get(i);
+            if (x.getType() != y.getType() || x.getTier() != y.getTier()
+                    || x.getState() != y.getState() || !x.getPosition().equals(y.getPosition())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MultiblockInfo copy(MultiblockInfo info, MultiblockStatus status, double distance,
+                                       List<ComponentInfo> components) {
+        MultiblockInfo copy = new MultiblockInfo(info.getController(), info.getName(), info.getControllerPos(),
+                info.getTier(), distance, info.isFormed());
+        copy.setSourceMod(info.getSourceMod());
+        copy.setStatus(status);
+        components.forEach(copy::addComponent);
+        if (components == info.getComponents()) {
+            copy.shareComponentIndex(info);
+        }
+        return copy;
+    }
+}
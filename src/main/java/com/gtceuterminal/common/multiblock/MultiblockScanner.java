@@ -14,6 +14,8 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -36,8 +38,8 @@ public class MultiblockScanner {
         BlockPos playerPos = player.blockPosition();
         Vec3 playerVec = player.position();
 
-        GTCEUTerminalMod.LOGGER.info("=== Universal Multiblock Scan Started ===");
-        GTCEUTerminalMod.LOGGER.info("Position: {}, Radius: {}", playerPos, radius);
+        GTCEUTerminalMod.LOGGER.debug("=== Universal Multiblock Scan Started ===");
+        GTCEUTerminalMod.LOGGER.debug("Position: {}, Radius: {}", playerPos, radius);
 
         // Detects multiblocks
         List<DetectedMultiblock> detected = UniversalMultiblockScanner.scanForAllMultiblocks(
@@ -46,7 +48,7 @@ public class MultiblockScanner {
                 radius
         );
 
-        GTCEUTerminalMod.LOGGER.info("Universal scanner found {} multiblocks", detected.size());
+        GTCEUTerminalMod.LOGGER.debug("Universal scanner found {} multiblocks", detected.size());
 
         // Convert DetectedMultiblock to MultiblockInfo for compatibility
         for (DetectedMultiblock mb : detected) {
@@ -54,7 +56,7 @@ public class MultiblockScanner {
                 MultiblockInfo info = convertToMultiblockInfo(mb, playerVec, level);
                 multiblocks.add(info);
 
-                GTCEUTerminalMod.LOGGER.info("  - {} ({}) from mod '{}' with {} components",
+                GTCEUTerminalMod.LOGGER.debug("  - {} ({}) from mod '{}' with {} components",
                         info.getName(),
                         info.getTier(),
                         mb.getModId(),
@@ -81,6 +83,15 @@ public class MultiblockScanner {
         return multiblocks;
     }
 
+    // Scan the one multiblock whose controller is at controllerPos, or null if it isn't formed
+    public static MultiblockInfo scanMultiblockAt(Player player, Level level, BlockPos controllerPos) {
+        DetectedMultiblock detected = UniversalMultiblockScanner.scanController(level, controllerPos);
+        if (detected == null) {
+            return null;
+        }
+        return convertToMultiblockInfo(detected, player.position(), level);
+    }
+
     private static MultiblockInfo convertToMultiblockInfo(
             DetectedMultiblock detected,
             Vec3 playerPos,
@@ -111,6 +122,7 @@ public class MultiblockScanner {
 
         // Add source mod metadata
         info.setSourceMod(detected.getModId());
+        info.setStatus(MultiblockStatus.of(detected.getController()));
 
         // Convert and add components
         for (var entry : detected.getComponents().entrySet()) {
@@ -216,7 +228,23 @@ public class MultiblockScanner {
         return ComponentType.UNKNOWN;
     }
 
+    // Every block of a formed multiblock (server side: the client has no pattern cache)
     public static Set<BlockPos> getMultiblockBlocks(IMultiController controller) {
-        return Set.of();
+        Set<BlockPos> blocks = new HashSet<>();
+        try {
+            Collection<BlockPos> cache = controller.getMultiblockState().getCache();
+            if (cache != null) {
+                cache.forEach(pos -> blocks.add(pos.immutable()));
+            }
+        } catch (Exception e) {
+            GTCEUTerminalMod.LOGGER.debug("No pattern cache for multiblock at {}", controller.self().getPos());
+        }
+
+        // Unformed or no cache: at least the parts
+        if (blocks.isEmpty()) {
+            controller.getParts().forEach(part -> blocks.add(part.self().getPos()));
+        }
+        blocks.add(controller.self().getPos());
+        return blocks;
     }
 }
\ No newline at end of file
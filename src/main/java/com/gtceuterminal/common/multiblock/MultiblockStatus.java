@@ -1,5 +1,10 @@
 package com.gtceuterminal.common.multiblock;
 
+import com.gregtechceu.gtceu.api.machine.feature.IRecipeLogicMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMaintenanceMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiPart;
+
 public enum MultiblockStatus {
     ACTIVE,
     IDLE,
@@ -8,6 +13,28 @@ public enum MultiblockStatus {
     DISABLED,
     UNFORMED,
     OUTPUT_FULL;
+
+    // Current state of a controller (server side), a handful of field reads
+    public static MultiblockStatus of(IMultiController controller) {
+        if (!controller.isFormed()) {
+            return UNFORMED;
+        }
+        for (IMultiPart part : controller.getParts()) {
+            if (part instanceof IMaintenanceMachine maintenance && maintenance.hasMaintenanceProblems()) {
+                return NEEDS_MAINTENANCE;
+            }
+        }
+        if (controller instanceof IRecipeLogicMachine machine) {
+            return switch (machine.getRecipeLogic().getStatus()) {
+                case WORKING -> ACTIVE;
+                // Recipe logic waits when it can't draw enough energy to continue
+                case WAITING -> NO_POWER;
+                case SUSPEND -> DISABLED;
+                default -> IDLE;
+            };
+        }
+        return IDLE;
+    }
     
     public int getColor() {
         return switch (this) {
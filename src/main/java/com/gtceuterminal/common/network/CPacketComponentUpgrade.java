@@ -1,9 +1,13 @@
 package com.gtceuterminal.common.network;
 
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+
 import com.gtceuterminal.common.item.MultiStructureManagerItem;
 import com.gtceuterminal.common.item.SchematicInterfaceItem;
 import com.gtceuterminal.common.multiblock.ComponentInfo;
 import com.gtceuterminal.common.multiblock.ComponentType;
+import com.gtceuterminal.common.upgrade.ComponentUpgradeGraph;
 import com.gtceuterminal.common.upgrade.ComponentUpgrader;
 
 import net.minecraft.core.BlockPos;
@@ -13,6 +17,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,11 +27,18 @@ public class CPacketComponentUpgrade {
 
     private List<BlockPos> positions = new ArrayList<>();
     private final int targetTier;
+    @Nullable
+    private final BlockPos controllerPos;
 
-    // Main constructor used by decode
     public CPacketComponentUpgrade(List<BlockPos> positions, int targetTier) {
+        this(positions, targetTier, null);
+    }
+
+    // Main constructor used by decode. controllerPos lets the server re-check the multiblock once at the end
+    public CPacketComponentUpgrade(List<BlockPos> positions, int targetTier, @Nullable BlockPos controllerPos) {
         this.positions = positions;
         this.targetTier = targetTier;
+        this.controllerPos = controllerPos;
     }
 
     // Convenient constructor for a single component
@@ -34,6 +46,7 @@ public class CPacketComponentUpgrade {
         this.positions = new ArrayList<>();
         this.positions.add(position);  // IMPORTANTE: Agregar la posición
         this.targetTier = targetTier;
+        this.controllerPos = controllerPos;
     }
 
     public void encode(FriendlyByteBuf buf) {
@@ -42,6 +55,10 @@ public class CPacketComponentUpgrade {
             buf.writeBlockPos(pos);
         }
         buf.writeInt(targetTier);
+        buf.writeBoolean(controllerPos != null);
+        if (controllerPos != null) {
+            buf.writeBlockPos(controllerPos);
+        }
     }
 
     public static CPacketComponentUpgrade decode(FriendlyByteBuf buf) {
@@ -51,7 +68,8 @@ public class CPacketComponentUpgrade {
             positions.add(buf.readBlockPos());
         }
         int targetTier = buf.readInt();
-        return new CPacketComponentUpgrade(positions, targetTier);
+        BlockPos controllerPos = buf.readBoolean() ? buf.readBlockPos() : null;
+        return new CPacketComponentUpgrade(positions, targetTier, controllerPos);
     }
 
     public void handle(Supplier<NetworkEvent.Context> ctx) {
@@ -62,37 +80,53 @@ public class CPacketComponentUpgrade {
             // Find wireless terminal in player's hands or inventory
             ItemStack wirelessTerminal = findWirelessTerminal(player);
 
-            int upgraded = 0;
+            List<ComponentInfo> components = new ArrayList<>();
             int failed = 0;
 
             for (BlockPos pos : positions) {
                 var state = player.level().getBlockState(pos);
                 var block = state.getBlock();
 
-                ComponentType type = detectComponentType(block);
-                int currentTier = detectTier(block);
+                // Configured parts are known exactly, anything else falls back to guessing from the id
+                ComponentUpgradeGraph.Node node = ComponentUpgradeGraph.get().getNode(block);
+                ComponentType type = node != null ? node.type() : detectComponentType(block);
+                int currentTier = node != null ? node.tier() : detectTier(block);
 
                 if (type == null) {
                     failed++;
                     continue;
                 }
 
-                ComponentInfo component = new ComponentInfo(type, currentTier, pos, state);
+                components.add(new ComponentInfo(type, currentTier, pos, state));
+            }
 
-                // Pass wireless terminal to upgrader
-                ComponentUpgrader.UpgradeResult result = ComponentUpgrader.upgradeComponent(
-                        component,
-                        targetTier,
-                        player,
-                        player.level(),
-                        true,
-                        wirelessTerminal
+            if (components.isEmpty()) {
+                player.displayClientMessage(
+                        Component.literal("§cFailed to upgrade " + failed + " component(s)"),
+                        true
                 );
+                return;
+            }
 
-                if (result.success) upgraded++;
-                else failed++;
+            IMultiController controller = null;
+            if (controllerPos != null
+                    && MetaMachine.getMachine(player.level(), controllerPos) instanceof IMultiController multiController) {
+                controller = multiController;
             }
 
+            // One material transaction for the whole request (and one autocraft plan if it falls short)
+            ComponentUpgrader.BulkUpgradeResult result = ComponentUpgrader.upgradeMultipleComponents(
+                    components,
+                    targetTier,
+                    player,
+                    player.level(),
+                    wirelessTerminal,
+                    controller
+            );
+
+            int upgraded = result.successful;
+            failed += result.failed + result.skipped;
+
             // Send feedback
             if (upgraded > 0) {
                 player.displayClientMessage(
@@ -100,6 +134,9 @@ public class CPacketComponentUpgrade {
                         true
                 );
                 player.playSound(SoundEvents.ANVIL_USE, 1.0F, 1.0F);
+            } else if (!result.success && result.message != null) {
+                player.displayClientMessage(Component.literal("§c" + result.message), true);
+                return;
             }
 
             if (failed > 0) {
@@ -0,0 +1,74 @@
+package com.gtceuterminal.common.network;
+
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.config.ServerConfig;
+import com.gtceuterminal.common.multiblock.BlockMask;
+import com.gtceuterminal.common.multiblock.MultiblockScanner;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Client asks for the exact block set of a multiblock to highlight
+ * The server answers with SPacketMultiblockHighlight, built from its pattern cache
+ */
+public class CPacketHighlightRequest {
+
+    // Boxes larger than this aren't sent (the mask index is an int and the client would choke anyway)
+    private static final long MAX_VOLUME = 1L << 24;
+
+    private final BlockPos controllerPos;
+    private final int color;
+    private final int durationMs;
+
+    public CPacketHighlightRequest(BlockPos controllerPos, int color, int durationMs) {
+        this.controllerPos = controllerPos;
+        this.color = color;
+        this.durationMs = durationMs;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBlockPos(controllerPos);
+        buf.writeInt(color);
+        buf.writeInt(durationMs);
+    }
+
+    public static CPacketHighlightRequest decode(FriendlyByteBuf buf) {
+        return new CPacketHighlightRequest(buf.readBlockPos(), buf.readInt(), buf.readInt());
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer player = ctx.get().getSender();
+            if (player == null || !player.level().isLoaded(controllerPos)) return;
+
+            // Same reach as the Manager's scan, with room to walk around
+            double reach = ServerConfig.getMultiblockScanRadius() * 2.0;
+            if (player.distanceToSqr(Vec3.atCenterOf(controllerPos)) > reach * reach) return;
+
+            if (!(MetaMachine.getMachine(player.level(), controllerPos) instanceof IMultiController controller)) {
+                return;
+            }
+
+            Set<BlockPos> blocks = MultiblockScanner.getMultiblockBlocks(controller);
+            BlockMask mask = BlockMask.of(blocks);
+            if (mask.getVolume() > MAX_VOLUME) {
+                GTCEUTerminalMod.LOGGER.warn("Multiblock at {} is too large to highlight ({} blocks in its box)",
+                        controllerPos, mask.getVolume());
+                return;
+            }
+
+            TerminalNetwork.sendToPlayer(new SPacketMultiblockHighlight(controllerPos, mask, color, durationMs), player);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
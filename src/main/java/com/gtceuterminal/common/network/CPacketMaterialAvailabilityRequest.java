@@ -0,0 +1,105 @@
+package com.gtceuterminal.common.network;
+
+import com.gtceuterminal.common.material.MaterialAvailability;
+import com.gtceuterminal.common.material.MaterialCalculator;
+
+import io.netty.handler.codec.DecoderException;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Client asks how much of a requirement set the server can see (inventory, nearby storage, ME)
+ * key is the client's id for the requirement set and is echoed back in the answer
+ * knownHash is the hash of the last answer the client got for this key; the server only
+ * replies if its answer differs. Items and counts are sent as varint registry ids / varints
+ */
+public class CPacketMaterialAvailabilityRequest {
+
+    // Requests from one player closer together than this are dropped (the client retries on its own)
+    private static final long MIN_INTERVAL_MS = 200;
+    // More entries than any structure needs; bigger packets are rejected before allocating anything
+    private static final int MAX_ENTRIES = 256;
+    // Last served request per player, cleared on logout
+    private static final Map<UUID, Long> LAST_REQUEST = new ConcurrentHashMap<>();
+
+    private final int key;
+    private final long knownHash;
+    private final Map<Item, Integer> required;
+
+    public CPacketMaterialAvailabilityRequest(int key, long knownHash, Map<Item, Integer> required) {
+        this.key = key;
+        this.knownHash = knownHash;
+        this.required = required;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeInt(key);
+        buf.writeLong(knownHash);
+        buf.writeVarInt(required.size());
+        for (Map.Entry<Item, Integer> entry : required.entrySet()) {
+            buf.writeVarInt(BuiltInRegistries.ITEM.getId(entry.getKey()));
+            buf.writeVarInt(entry.getValue());
+        }
+    }
+
+    public static CPacketMaterialAvailabilityRequest decode(FriendlyByteBuf buf) {
+        int key = buf.readInt();
+        long knownHash = buf.readLong();
+        int size = buf.readVarInt();
+        if (size < 0 || size > MAX_ENTRIES) {
+            throw new DecoderException("Material availability request with " + size + " entries");
+        }
+        Map<Item, Integer> required = new LinkedHashMap<>();
+        boolean unknown = false;
+        for (int i = 0; i < size; i++) {
+            // byId falls back to air for ids that aren't registered
+            Item item = BuiltInRegistries.ITEM.byId(buf.readVarInt());
+            int count = buf.readVarInt();
+            if (item == Items.AIR) {
+                unknown = true;
+            } else {
+                required.put(item, count);
+            }
+        }
+        // An empty set is ignored by handle()
+        return new CPacketMaterialAvailabilityRequest(key, knownHash, unknown ? Map.of() : required);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer player = ctx.get().getSender();
+            if (player == null || required.isEmpty()) return;
+
+            long now = System.currentTimeMillis();
+            Long last = LAST_REQUEST.get(player.getUUID());
+            if (last != null && now - last < MIN_INTERVAL_MS) {
+                return;
+            }
+            // Only served requests count towards the interval, a dropped one doesn't push the next back
+            LAST_REQUEST.put(player.getUUID(), now);
+
+            // Served from the per-grid ME cache, so polling dialogs don't rescan the network
+            List<MaterialAvailability> availability =
+                    MaterialCalculator.snapshotAvailability(required, player, player.level());
+
+            SPacketMaterialAvailability response = new SPacketMaterialAvailability(key, availability);
+            if (response.getResultHash() != knownHash) {
+                TerminalNetwork.sendToPlayer(response, player);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+
+    public static void forget(UUID playerId) {
+        LAST_REQUEST.remove(playerId);
+    }
+}
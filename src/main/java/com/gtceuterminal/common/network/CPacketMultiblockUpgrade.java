@@ -0,0 +1,86 @@
+package com.gtceuterminal.common.network;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.config.ServerConfig;
+import com.gtceuterminal.common.material.MaterialCalculator;
+import com.gtceuterminal.common.multiblock.MultiblockInfo;
+import com.gtceuterminal.common.multiblock.MultiblockScanner;
+import com.gtceuterminal.common.upgrade.ComponentUpgrader;
+import com.gtceuterminal.common.upgrade.MultiblockUpgradePlan;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Upgrade a whole multiblock to a target tier
+ * Only the controller and tier are sent: the server rescans the structure and builds the plan
+ * itself, so a stale client preview can't upgrade blocks that are no longer part of it
+ */
+public class CPacketMultiblockUpgrade {
+
+    private final BlockPos controllerPos;
+    private final int targetTier;
+
+    public CPacketMultiblockUpgrade(BlockPos controllerPos, int targetTier) {
+        this.controllerPos = controllerPos;
+        this.targetTier = targetTier;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBlockPos(controllerPos);
+        buf.writeVarInt(targetTier);
+    }
+
+    public static CPacketMultiblockUpgrade decode(FriendlyByteBuf buf) {
+        return new CPacketMultiblockUpgrade(buf.readBlockPos(), buf.readVarInt());
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            ServerPlayer player = ctx.get().getSender();
+            if (player == null || !player.level().isLoaded(controllerPos)) return;
+
+            // Same reach as the Manager's scan, with room to walk around
+            double reach = ServerConfig.getMultiblockScanRadius() * 2.0;
+            if (player.distanceToSqr(Vec3.atCenterOf(controllerPos)) > reach * reach) return;
+
+            MultiblockInfo multiblock = MultiblockScanner.scanMultiblockAt(player, player.level(), controllerPos);
+            if (multiblock == null) {
+                player.displayClientMessage(Component.literal("§cMultiblock is not formed"), true);
+                return;
+            }
+
+            MultiblockUpgradePlan plan = MultiblockUpgradePlan.create(multiblock.getComponents(), targetTier);
+            if (plan.isEmpty()) {
+                player.displayClientMessage(Component.literal("§7Nothing to upgrade"), true);
+                return;
+            }
+
+            GTCEUTerminalMod.LOGGER.info("Player {} upgrading {} at {} to tier {}: {} parts",
+                    player.getName().getString(), multiblock.getName(), controllerPos, targetTier, plan.getSteps().size());
+
+            ComponentUpgrader.BulkUpgradeResult result = ComponentUpgrader.upgradePlanned(
+                    plan,
+                    player,
+                    player.level(),
+                    MaterialCalculator.findWirelessTerminal(player),
+                    multiblock.getController()
+            );
+
+            if (result.successful > 0) {
+                player.displayClientMessage(Component.literal("§a" + result.message), true);
+                player.playSound(SoundEvents.ANVIL_USE, 1.0F, 1.0F);
+            } else if (result.message != null) {
+                player.displayClientMessage(Component.literal("§c" + result.message), true);
+            }
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gtceuterminal.common.network;
+
+import com.gtceuterminal.client.ClientPacketHandlers;
+import com.gtceuterminal.common.material.MaterialAvailability;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.Item;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Server's answer to CPacketMaterialAvailabilityRequest
+public class SPacketMaterialAvailability {
+
+    private final int key;
+    private final List<MaterialAvailability> availability;
+
+    public SPacketMaterialAvailability(int key, List<MaterialAvailability> availability) {
+        this.key = key;
+        this.availability = availability;
+    }
+
+    // Changes whenever any count changes - lets the server skip answers the client already has
+    public long getResultHash() {
+        long hash = 1;
+        for (MaterialAvailability mat : availability) {
+            hash = 31 * hash + BuiltInRegistries.ITEM.getId(mat.getItem());
+            hash = 31 * hash + mat.getInInventory();
+            hash = 31 * hash + mat.getInNearbyChests();
+            hash = 31 * hash + mat.getInMENetwork();
+        }
+        return hash;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeInt(key);
+        buf.writeVarInt(availability.size());
+        for (MaterialAvailability mat : availability) {
+            buf.writeVarInt(BuiltInRegistries.ITEM.getId(mat.getItem()));
+            buf.writeVarInt(mat.getRequired());
+            buf.writeVarInt(mat.getInInventory());
+            buf.writeVarInt(mat.getInNearbyChests());
+            buf.writeVarLong(mat.getInMENetwork());
+        }
+    }
+
+    public static SPacketMaterialAvailability decode(FriendlyByteBuf buf) {
+        int key = buf.readInt();
+        int size = buf.readVarInt();
+        List<MaterialAvailability> availability = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Item item = BuiltInRegistries.ITEM.byId(buf.readVarInt());
+            MaterialAvailability mat = new MaterialAvailability(item, buf.readVarInt());
+            mat.setInInventory(buf.readVarInt());
+            mat.setInNearbyChests(buf.readVarInt());
+            mat.setInMENetwork(buf.readVarLong());
+            availability.add(mat);
+        }
+        return new SPacketMaterialAvailability(key, availability);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        long resultHash = getResultHash();
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
+                ClientPacketHandlers.handleMaterialAvailability(key, resultHash, availability)));
+        ctx.get().setPacketHandled(true);
+    }
+}
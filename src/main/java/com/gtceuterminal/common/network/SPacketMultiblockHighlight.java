@@ -0,0 +1,48 @@
+package com.gtceuterminal.common.network;
+
+import com.gtceuterminal.client.ClientPacketHandlers;
+import com.gtceuterminal.common.multiblock.BlockMask;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+// Server's answer to CPacketHighlightRequest: the structure as a bounding box plus block mask
+public class SPacketMultiblockHighlight {
+
+    private final BlockPos controllerPos;
+    private final BlockMask mask;
+    private final int color;
+    private final int durationMs;
+
+    public SPacketMultiblockHighlight(BlockPos controllerPos, BlockMask mask, int color, int durationMs) {
+        this.controllerPos = controllerPos;
+        this.mask = mask;
+        this.color = color;
+        this.durationMs = durationMs;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBlockPos(controllerPos);
+        buf.writeInt(color);
+        buf.writeInt(durationMs);
+        mask.write(buf);
+    }
+
+    public static SPacketMultiblockHighlight decode(FriendlyByteBuf buf) {
+        BlockPos controllerPos = buf.readBlockPos();
+        int color = buf.readInt();
+        int durationMs = buf.readInt();
+        return new SPacketMultiblockHighlight(controllerPos, BlockMask.read(buf), color, durationMs);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () ->
+                ClientPacketHandlers.handleMultiblockHighlight(controllerPos, mask, color, durationMs)));
+        ctx.get().setPacketHandled(true);
+    }
+}
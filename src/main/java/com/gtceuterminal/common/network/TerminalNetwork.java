@@ -82,6 +82,40 @@ public class TerminalNetwork {
                 .consumerMainThread(CPacketOpenManagerSettings::handle)
                 .add();
 
+        CHANNEL.messageBuilder(CPacketMaterialAvailabilityRequest.class, packetId++, NetworkDirection.PLAY_TO_SERVER)
+                .encoder(CPacketMaterialAvailabilityRequest::encode)
+                .decoder(CPacketMaterialAvailabilityRequest::decode)
+                .consumerMainThread(CPacketMaterialAvailabilityRequest::handle)
+                .add();
+
+        CHANNEL.messageBuilder(CPacketMultiblockUpgrade.class, packetId++, NetworkDirection.PLAY_TO_SERVER)
+                .encoder(CPacketMultiblockUpgrade::encode)
+                .decoder(CPacketMultiblockUpgrade::decode)
+                .consumerMainThread(CPacketMultiblockUpgrade::handle)
+                .add();
+
+        CHANNEL.messageBuilder(CPacketHighlightRequest.class, packetId++, NetworkDirection.PLAY_TO_SERVER)
+                .encoder(CPacketHighlightRequest::encode)
+                .decoder(CPacketHighlightRequest::decode)
+                .consumerMainThread(CPacketHighlightRequest::handle)
+                .add();
+
+        // ==========================================
+        // SERVER → CLIENT PACKETS
+        // ==========================================
+
+        CHANNEL.messageBuilder(SPacketMaterialAvailability.class, packetId++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(SPacketMaterialAvailability::encode)
+                .decoder(SPacketMaterialAvailability::decode)
+                .consumerMainThread(SPacketMaterialAvailability::handle)
+                .add();
+
+        CHANNEL.messageBuilder(SPacketMultiblockHighlight.class, packetId++, NetworkDirection.PLAY_TO_CLIENT)
+                .encoder(SPacketMultiblockHighlight::encode)
+                .decoder(SPacketMultiblockHighlight::decode)
+                .consumerMainThread(SPacketMultiblockHighlight::handle)
+                .add();
+
         GTCEUTerminalMod.LOGGER.info("Registered {} Terminal Network packets", packetId);
         GTCEUTerminalMod.LOGGER.info("Network packets registered successfully!");
     }
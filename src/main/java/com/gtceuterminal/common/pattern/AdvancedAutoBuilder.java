@@ -2,6 +2,10 @@ package com.gtceuterminal.common.pattern;
 
 import com.gtceuterminal.GTCEUTerminalMod;
 import com.gtceuterminal.client.gui.multiblock.ManagerSettingsUI;
+import com.gtceuterminal.common.material.MaterialCalculator;
+import com.gtceuterminal.common.material.MaterialReservation;
+import com.gtceuterminal.common.material.MaterialSession;
+import com.gtceuterminal.common.material.MaterialSources;
 
 import com.gregtechceu.gtceu.api.block.MetaMachineBlock;
 import com.gregtechceu.gtceu.api.machine.IMachineBlockEntity;
@@ -17,7 +21,6 @@ import com.gregtechceu.gtceu.common.block.CoilBlock;
 
 import com.lowdragmc.lowdraglib.utils.BlockInfo;
 
-import it.unimi.dsi.fastutil.ints.IntObjectPair;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 import net.minecraft.core.BlockPos;
@@ -35,10 +38,6 @@ import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.Property;
 import net.minecraft.world.phys.BlockHitResult;
 
-import net.minecraftforge.common.capabilities.ForgeCapabilities;
-import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.items.IItemHandler;
-
 import org.apache.commons.lang3.ArrayUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -136,6 +135,8 @@ public class AdvancedAutoBuilder {
             blocks.put(centerPos, controller);
 
             int placedCount = 0;
+            MaterialSession session = player.isCreative() ? null
+                    : MaterialSources.open(player, world, MaterialCalculator.findWirelessTerminal(player));
 
             // NOTE: In GTCEu, fingerLength/thumbLength/palmLength are fields.
             // We can derive them from the array.
@@ -190,18 +191,19 @@ public class AdvancedAutoBuilder {
                                 // Settings hook: coil tier selection
                                 candidates = applyCoilTierPreference(candidates, settings.tierMode);
 
-                                // Now place exactly like GTCEu
+                                // Now place like GTCEu, paying from the same sources as every other operation
                                 ItemStack found = null;
-                                int foundSlot = -1;
-                                IItemHandler handler = null;
-
-                                if (!player.isCreative()) {
-                                    IntObjectPair<IItemHandler> foundHandler = getMatchStackWithHandler(
-                                            candidates, player.getCapability(ForgeCapabilities.ITEM_HANDLER));
-                                    if (foundHandler != null) {
-                                        foundSlot = foundHandler.firstInt();
-                                        handler = foundHandler.second();
-                                        found = handler.getStackInSlot(foundSlot).copy();
+                                MaterialReservation reservation = null;
+
+                                if (session != null) {
+                                    for (ItemStack candidate : candidates) {
+                                        if (!(candidate.getItem() instanceof BlockItem)) continue;
+                                        MaterialReservation attempt = session.reserve(Map.of(candidate.getItem(), 1));
+                                        if (attempt.isComplete()) {
+                                            found = candidate.copyWithCount(1);
+                                            reservation = attempt;
+                                            break;
+                                        }
                                     }
                                 } else {
                                     for (ItemStack candidate : candidates) {
@@ -216,6 +218,11 @@ public class AdvancedAutoBuilder {
                                     continue;
                                 }
 
+                                // Taken before placing so a source that changed can't hand out a free block
+                                if (reservation != null && !reservation.commit()) {
+                                    continue;
+                                }
+
                                 BlockItem itemBlock = (BlockItem) found.getItem();
                                 BlockPlaceContext context = new BlockPlaceContext(
                                         world, player, InteractionHand.MAIN_HAND, found,
@@ -225,7 +232,11 @@ public class AdvancedAutoBuilder {
                                 if (interactionResult != InteractionResult.FAIL) {
                                     placedByUs.add(pos);
                                     placedCount++;
-                                    if (handler != null) handler.extractItem(foundSlot, 1, false);
+                                } else if (reservation != null) {
+                                    ItemStack refund = new ItemStack(itemBlock);
+                                    if (!player.getInventory().add(refund)) {
+                                        player.drop(refund, false);
+                                    }
                                 }
 
                                 if (world.getBlockEntity(pos) instanceof IMachineBlockEntity mbe) {
@@ -536,32 +547,6 @@ public class AdvancedAutoBuilder {
         consumer.accept(blockState.setValue(property, found));
     }
 
-    // -------------------------------
-    // Inventory matching
-    // -------------------------------
-
-    @Nullable
-    private static IntObjectPair<IItemHandler> getMatchStackWithHandler(List<ItemStack> candidates,
-                                                                        LazyOptional<IItemHandler> cap) {
-        IItemHandler handler = cap.resolve().orElse(null);
-        if (handler == null) return null;
-
-        for (int i = 0; i < handler.getSlots(); i++) {
-            @NotNull ItemStack stack = handler.getStackInSlot(i);
-            if (stack.isEmpty()) continue;
-
-            @NotNull LazyOptional<IItemHandler> stackCap = stack.getCapability(ForgeCapabilities.ITEM_HANDLER);
-            if (stackCap.isPresent()) {
-                IntObjectPair<IItemHandler> rt = getMatchStackWithHandler(candidates, stackCap);
-                if (rt != null) return rt;
-            } else if (candidates.stream().anyMatch(candidate -> ItemStack.isSameItemSameTags(candidate, stack)) &&
-                    !stack.isEmpty() && stack.getItem() instanceof BlockItem) {
-                return IntObjectPair.of(i, handler);
-            }
-        }
-        return null;
-    }
-
     private static ItemStack computeFallbackCasing(
             TraceabilityPredicate[][][] blockMatches,
             Set<net.minecraft.world.level.block.Block> hatchBlocks,
@@ -68,7 +68,7 @@ public class UniversalMultiblockScanner {
                         DetectedMultiblock detected = analyzeMultiblock(controller, immutablePos, level);
                         if (detected != null) {
                             found.add(detected);
-                            GTCEUTerminalMod.LOGGER.info("Found multiblock: {} at {}",
+                            GTCEUTerminalMod.LOGGER.debug("Found multiblock: {} at {}",
                                     detected.getName(), immutablePos);
                         }
                     }
@@ -76,10 +76,20 @@ public class UniversalMultiblockScanner {
             }
         }
 
-        GTCEUTerminalMod.LOGGER.info("Total multiblocks found: {}", found.size());
+        GTCEUTerminalMod.LOGGER.debug("Total multiblocks found: {}", found.size());
         return found;
     }
 
+    // Analyze the single controller at pos, or null if there is no formed multiblock there
+    public static DetectedMultiblock scanController(Level level, BlockPos pos) {
+        if (level.getBlockEntity(pos) instanceof IMachineBlockEntity machineBlockEntity
+                && machineBlockEntity.getMetaMachine() instanceof MultiblockControllerMachine controller
+                && isMultiblockFormed(controller)) {
+            return analyzeMultiblock(controller, pos.immutable(), level);
+        }
+        return null;
+    }
+
     private static boolean isMultiblockFormed(MultiblockControllerMachine controller) {
         try {
             /// Check if it is formed
@@ -484,7 +494,7 @@ public class UniversalMultiblockScanner {
                 }
             }
 
-            GTCEUTerminalMod.LOGGER.info("Found {} structure components from {} blocks via flood fill",
+            GTCEUTerminalMod.LOGGER.debug("Found {} structure components from {} blocks via flood fill",
                     structureBlocksFound, positions.size());
 
         } catch (Exception e) {
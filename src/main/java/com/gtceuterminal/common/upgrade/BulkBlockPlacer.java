@@ -0,0 +1,103 @@
+package com.gtceuterminal.common.upgrade;
+
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiPart;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.*;
+
+/**
+ * Places a batch of block states as one structural change
+ * States are set without neighbour or shape updates (clients still receive them, batched per
+ * section by the chunk holder). finish() then notifies the blocks bordering the changed set once,
+ * section by section, and re-checks each affected controller's pattern a single time
+ */
+public class BulkBlockPlacer {
+
+    // Sync to clients, but no neighbour updates and no shape updates
+    private static final int PLACE_FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
+    private final Level level;
+    private final Long2ObjectMap<List<Placed>> bySection = new Long2ObjectLinkedOpenHashMap<>();
+    private final Set<BlockPos> changed = new HashSet<>();
+    private final Set<IMultiController> controllers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public BulkBlockPlacer(Level level) {
+        this.level = level;
+    }
+
+    // Re-check this controller once the batch is done
+    public void addController(IMultiController controller) {
+        if (controller != null) {
+            controllers.add(controller);
+        }
+    }
+
+    // Remember the controllers of a multiblock part before it gets replaced
+    public void addControllersOf(BlockPos pos) {
+        if (MetaMachine.getMachine(level, pos) instanceof IMultiPart part) {
+            for (IMultiController controller : part.getControllers()) {
+                addController(controller);
+            }
+        }
+    }
+
+    public boolean place(BlockPos pos, BlockState newState) {
+        if (!level.setBlock(pos, newState, PLACE_FLAGS)) {
+            return false;
+        }
+
+        BlockPos immutable = pos.immutable();
+        changed.add(immutable);
+        bySection.computeIfAbsent(SectionPos.asLong(immutable), k -> new ArrayList<>())
+                .add(new Placed(immutable, newState.getBlock()));
+        return true;
+    }
+
+    public int getPlacedCount() {
+        return changed.size();
+    }
+
+    // Deferred neighbour updates and pattern checks for everything placed so far
+    public void finish() {
+        for (List<Placed> section : bySection.values()) {
+            // Each outside neighbour is told once per section, by the first changed block next to it
+            Map<BlockPos, Placed> toNotify = new LinkedHashMap<>();
+            for (Placed placed : section) {
+                for (Direction side : Direction.values()) {
+                    BlockPos neighbor = placed.pos().relative(side);
+                    if (!changed.contains(neighbor)) {
+                        toNotify.putIfAbsent(neighbor, placed);
+                    }
+                }
+            }
+
+            toNotify.forEach((neighbor, source) -> level.neighborChanged(neighbor, source.block(), source.pos()));
+        }
+
+        for (IMultiController controller : controllers) {
+            try {
+                controller.checkPattern();
+            } catch (Exception e) {
+                GTCEUTerminalMod.LOGGER.error("Error rechecking pattern after bulk upgrade", e);
+            }
+        }
+
+        bySection.clear();
+        changed.clear();
+        controllers.clear();
+    }
+
+    private record Placed(BlockPos pos, Block block) {}
+}
@@ -0,0 +1,236 @@
+package com.gtceuterminal.common.upgrade;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.config.*;
+import com.gtceuterminal.common.multiblock.ComponentType;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Tier upgrade graph compiled from the component JSON configs
+ * (type, tier) → node and block → node are plain map lookups instead of list scans. The graph is
+ * immutable: rebuild() compiles a new one from the current configs and swaps it in, so readers
+ * never see a half-built graph. Block ids are resolved against the registry once per build
+ */
+public final class ComponentUpgradeGraph {
+
+    private static volatile ComponentUpgradeGraph current;
+
+    private final Map<ComponentType, Int2ObjectMap<Node>> byTier;
+    private final Map<ComponentType, List<Integer>> tiers;
+    private final Reference2ObjectMap<Block, Node> byBlock;
+
+    private ComponentUpgradeGraph(Map<ComponentType, Int2ObjectMap<Node>> byTier,
+                                  Map<ComponentType, List<Integer>> tiers,
+                                  Reference2ObjectMap<Block, Node> byBlock) {
+        this.byTier = byTier;
+        this.tiers = tiers;
+        this.byBlock = byBlock;
+    }
+
+    public static ComponentUpgradeGraph get() {
+        ComponentUpgradeGraph graph = current;
+        if (graph == null) {
+            synchronized (ComponentUpgradeGraph.class) {
+                graph = current;
+                if (graph == null) {
+                    graph = build();
+                    current = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
+    // Compile the graph from the configs as they are now. Call after any config (re)load
+    public static void rebuild() {
+        current = build();
+    }
+
+    @Nullable
+    public Node getNode(ComponentType type, int tier) {
+        Int2ObjectMap<Node> nodes = byTier.get(type);
+        return nodes != null ? nodes.get(tier) : null;
+    }
+
+    // Registered block for (type, tier), or null if there is no config entry or the block is missing
+    @Nullable
+    public Block getBlock(ComponentType type, int tier) {
+        Node node = getNode(type, tier);
+        return node != null ? node.block() : null;
+    }
+
+    // The configured component a block is, or null
+    @Nullable
+    public Node getNode(Block block) {
+        return byBlock.get(block);
+    }
+
+    // Sorted distinct tiers configured for the type
+    public List<Integer> getTiers(ComponentType type) {
+        return tiers.getOrDefault(type, List.of());
+    }
+
+    // Configured tiers above the node's tier, lowest first
+    public List<Integer> getNextTiers(Node node) {
+        return node.nextTiers();
+    }
+
+    private static ComponentUpgradeGraph build() {
+        Builder builder = new Builder();
+
+        for (HatchConfig.HatchEntry hatch : HatchConfig.getInputHatches()) {
+            builder.add(ComponentType.INPUT_HATCH, hatch.tier, hatch.blockId, hatch.displayName);
+        }
+        for (HatchConfig.HatchEntry hatch : HatchConfig.getOutputHatches()) {
+            builder.add(ComponentType.OUTPUT_HATCH, hatch.tier, hatch.blockId, hatch.displayName);
+        }
+        for (BusConfig.BusEntry bus : BusConfig.getInputBuses()) {
+            builder.add(ComponentType.INPUT_BUS, bus.tier, bus.blockId, bus.displayName);
+        }
+        for (BusConfig.BusEntry bus : BusConfig.getOutputBuses()) {
+            builder.add(ComponentType.OUTPUT_BUS, bus.tier, bus.blockId, bus.displayName);
+        }
+
+        // Plain 2A energy hatches win their tier over the 4A/16A variants. Output hatches can fill a
+        // tier but aren't indexed by block, so a dynamo is never mistaken for an upgradeable energy hatch
+        List<EnergyHatchConfig.EnergyHatchEntry> energyHatches = EnergyHatchConfig.getAllEnergyHatches();
+        Set<String> energyInputs = new HashSet<>();
+        EnergyHatchConfig.getInputHatches().forEach(energy -> energyInputs.add(energy.blockId));
+        for (EnergyHatchConfig.EnergyHatchEntry energy : energyHatches) {
+            if (energy.blockId.endsWith("_energy_input_hatch") || energy.blockId.endsWith("_energy_output_hatch")) {
+                builder.add(ComponentType.ENERGY_HATCH, energy.tier, energy.blockId, energy.displayName,
+                        energyInputs.contains(energy.blockId));
+            }
+        }
+        for (EnergyHatchConfig.EnergyHatchEntry energy : energyHatches) {
+            builder.add(ComponentType.ENERGY_HATCH, energy.tier, energy.blockId, energy.displayName,
+                    energyInputs.contains(energy.blockId));
+        }
+
+        for (ParallelHatchConfig.ParallelHatchEntry parallel : ParallelHatchConfig.getAllParallelHatches()) {
+            builder.add(ComponentType.PARALLEL_HATCH, parallel.tier, parallel.blockId, parallel.displayName);
+        }
+        for (MufflerHatchConfig.MufflerHatchEntry muffler : MufflerHatchConfig.getAllMufflerHatches()) {
+            builder.add(ComponentType.MUFFLER, muffler.tier, muffler.blockId, muffler.displayName);
+        }
+        for (MaintenanceHatchConfig.MaintenanceHatchEntry maintenance : MaintenanceHatchConfig.getAllMaintenanceHatches()) {
+            builder.add(ComponentType.MAINTENANCE, maintenance.tier, maintenance.blockId, maintenance.displayName);
+        }
+
+        // Coil tiers are positions in the temperature-sorted coil list
+        List<CoilConfig.CoilEntry> coils = CoilConfig.getAllCoils();
+        for (int i = 0; i < coils.size(); i++) {
+            builder.add(ComponentType.COIL, i, coils.get(i).blockId, coils.get(i).displayName);
+        }
+
+        ComponentUpgradeGraph graph = builder.build();
+        GTCEUTerminalMod.LOGGER.info("Compiled upgrade graph: {} component blocks, {} missing from the registry",
+                graph.byBlock.size(), builder.missing);
+        return graph;
+    }
+
+    /**
+     * One configured component
+     * @param block the registered block, null if the config names a block that doesn't exist
+     * @param nextTiers configured tiers of the same type above this one, lowest first
+     */
+    public record Node(ComponentType type, int tier, String blockId, String displayName, @Nullable Block block,
+                       List<Integer> nextTiers) {}
+
+    private static class Builder {
+        private final Map<ComponentType, Int2ObjectMap<Node>> byTier = new EnumMap<>(ComponentType.class);
+        private final Reference2ObjectMap<Block, Node> byBlock = new Reference2ObjectOpenHashMap<>();
+        private final Map<String, Block> resolved = new HashMap<>();
+        private int missing;
+
+        void add(ComponentType type, int tier, String blockId, String displayName) {
+            add(type, tier, blockId, displayName, true);
+        }
+
+        void add(ComponentType type, int tier, String blockId, String displayName, boolean indexBlock) {
+            Block block = resolve(blockId);
+            // Next tiers are only known once every entry is in, build() fills them in
+            Node node = new Node(type, tier, blockId, displayName, block, List.of());
+
+            // First entry for a tier wins, same as the old linear scans
+            Int2ObjectMap<Node> nodes = byTier.computeIfAbsent(type, t -> new Int2ObjectOpenHashMap<>());
+            if (!nodes.containsKey(tier)) {
+                nodes.put(tier, node);
+            }
+            if (block != null && indexBlock) {
+                byBlock.putIfAbsent(block, node);
+            }
+        }
+
+        @Nullable
+        private Block resolve(String blockId) {
+            // Energy hatches are offered twice, only look each id up once
+            if (resolved.containsKey(blockId)) {
+                return resolved.get(blockId);
+            }
+            Block block = lookup(blockId);
+            resolved.put(blockId, block);
+            return block;
+        }
+
+        @Nullable
+        private Block lookup(String blockId) {
+            ResourceLocation id = blockId != null ? ResourceLocation.tryParse(blockId) : null;
+            Block block = id != null ? BuiltInRegistries.BLOCK.get(id) : Blocks.AIR;
+            if (block == Blocks.AIR) {
+                missing++;
+                GTCEUTerminalMod.LOGGER.warn("Upgrade config names unknown block: {}", blockId);
+                return null;
+            }
+            return block;
+        }
+
+        ComponentUpgradeGraph build() {
+            Map<ComponentType, Int2ObjectMap<Node>> frozen = new EnumMap<>(ComponentType.class);
+            Map<ComponentType, List<Integer>> tiers = new EnumMap<>(ComponentType.class);
+            byTier.forEach((type, nodes) -> {
+                int[] sorted = nodes.keySet().toIntArray();
+                Arrays.sort(sorted);
+                List<Integer> typeTiers = Arrays.stream(sorted).boxed().toList();
+                tiers.put(type, typeTiers);
+
+                Int2ObjectMap<Node> linked = new Int2ObjectOpenHashMap<>(nodes.size());
+                for (Int2ObjectMap.Entry<Node> entry : nodes.int2ObjectEntrySet()) {
+                    linked.put(entry.getIntKey(), withNextTiers(entry.getValue(), typeTiers));
+                }
+                frozen.put(type, Int2ObjectMaps.unmodifiable(linked));
+            });
+
+            // Block entries can be variants that don't own their tier (4A/16A energy hatches), link them too
+            Reference2ObjectMap<Block, Node> linkedBlocks = new Reference2ObjectOpenHashMap<>(byBlock.size());
+            byBlock.forEach((block, node) -> {
+                boolean ownsTier = byTier.get(node.type()).get(node.tier()) == node;
+                linkedBlocks.put(block, ownsTier ? frozen.get(node.type()).get(node.tier())
+                        : withNextTiers(node, tiers.get(node.type())));
+            });
+
+            return new ComponentUpgradeGraph(Collections.unmodifiableMap(frozen), Collections.unmodifiableMap(tiers),
+                    Reference2ObjectMaps.unmodifiable(linkedBlocks));
+        }
+
+        private static Node withNextTiers(Node node, List<Integer> typeTiers) {
+            int index = Collections.binarySearch(typeTiers, node.tier());
+            return new Node(node.type(), node.tier(), node.blockId(), node.displayName(), node.block(),
+                    typeTiers.subList(index + 1, typeTiers.size()));
+        }
+    }
+}
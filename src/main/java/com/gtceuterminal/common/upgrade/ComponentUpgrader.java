@@ -1,14 +1,23 @@
 package com.gtceuterminal.common.upgrade;
 
-import com.gtceuterminal.common.ae2.MENetworkItemExtractor;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IMultiController;
+
+import com.gtceuterminal.common.ae2.AE2Integration;
+import com.gtceuterminal.common.ae2.MECraftingPlanner;
 import com.gtceuterminal.common.material.ComponentUpgradeHelper;
-import com.gtceuterminal.common.material.MaterialAvailability;
 import com.gtceuterminal.common.material.MaterialCalculator;
+import com.gtceuterminal.common.material.MaterialReservation;
+import com.gtceuterminal.common.material.MaterialSource;
 import com.gtceuterminal.common.multiblock.ComponentInfo;
 import com.gtceuterminal.common.multiblock.ComponentType;
+import com.gtceuterminal.common.multiblock.MultiblockInfo;
+import com.gtceuterminal.common.multiblock.MultiblockScanner;
 import com.gtceuterminal.GTCEUTerminalMod;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
@@ -16,10 +25,13 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class ComponentUpgrader {
 
@@ -54,65 +66,57 @@ public class ComponentUpgrader {
         }
 
         if (!isCreative && consumeMaterials) {
-            // Try ME Network first if wireless terminal is provided
-            if (wirelessTerminal != null && !wirelessTerminal.isEmpty()) {
-                MENetworkItemExtractor.ExtractResult meResult =
-                        MENetworkItemExtractor.tryExtractFromMEOrInventory(
-                                wirelessTerminal, level, player, required
-                        );
-
-                if (meResult.success) {
-                    if (meResult.source == MENetworkItemExtractor.ExtractionSource.ME_NETWORK) {
-                        extractionSource = " §a(ME Network)";
-                    } else if (meResult.source == MENetworkItemExtractor.ExtractionSource.PLAYER_INVENTORY) {
-                        extractionSource = " §7(Inventory)";
-                    }
-                } else {
-                    // Fallback to traditional method
-                    List<MaterialAvailability> materials = MaterialCalculator.checkMaterialsAvailability(
-                            required, player, level
-                    );
-
-                    if (!MaterialCalculator.hasEnoughMaterials(materials)) {
-                        Map<Item, Integer> missing = MaterialCalculator.getMissingMaterials(materials);
-                        return new UpgradeResult(false, "Missing materials: " + formatMissing(missing));
-                    }
-
-                    boolean extracted = MaterialCalculator.extractMaterials(
-                            materials, player, level, true, true
-                    );
-
-                    if (!extracted) {
-                        return new UpgradeResult(false, "Failed to extract materials");
-                    }
-                    extractionSource = " §7(Inventory)";
-                }
-            } else {
-                // No wireless terminal, use traditional method
-                List<MaterialAvailability> materials = MaterialCalculator.checkMaterialsAvailability(
-                        required, player, level
-                );
-
-                if (!MaterialCalculator.hasEnoughMaterials(materials)) {
-                    Map<Item, Integer> missing = MaterialCalculator.getMissingMaterials(materials);
-                    return new UpgradeResult(false, "Missing materials: " + formatMissing(missing));
-                }
+            // One transaction over ME Network, inventory, backpacks and nearby storage
+            MaterialReservation reservation = MaterialCalculator.reserveMaterials(required, player, level, wirelessTerminal);
+            if (!reservation.isComplete()) {
+                return new UpgradeResult(false, "Missing materials: " + formatMissing(reservation.getMissing()));
+            }
+            if (!reservation.commit()) {
+                return new UpgradeResult(false, "Failed to extract materials");
+            }
+            extractionSource = describeSource(reservation);
+        }
 
-                boolean extracted = MaterialCalculator.extractMaterials(
-                        materials, player, level, true, true
-                );
+        BulkBlockPlacer placer = new BulkBlockPlacer(level);
+        List<ItemStack> itemOverflow = new ArrayList<>();
+        UpgradeResult result = placeUpgrade(component, targetTier, player, level, required, placer, extractionSource,
+                wirelessTerminal, itemOverflow);
+        placer.finish();
+        MachineStateTransfer.flushOverflow(itemOverflow, player, level, wirelessTerminal);
 
-                if (!extracted) {
-                    return new UpgradeResult(false, "Failed to extract materials");
-                }
-                extractionSource = " §7(Inventory)";
-            }
+        if (!result.success && !isCreative && consumeMaterials) {
+            refund(player, required);
         }
+        return result;
+    }
 
+    /**
+     * Put the upgraded block in place through the placer (no neighbour updates yet) and
+     * give the old block back. Materials must already have been taken
+     * Contents and covers of GTCEu parts move to the new block; items that don't fit go to itemOverflow,
+     * fluids that don't fit go to the ME Network or the old part stays
+     * Fails if the world no longer holds the scanned block, so a part mined meanwhile isn't handed out twice
+     */
+    private static UpgradeResult placeUpgrade(
+            ComponentInfo component,
+            int targetTier,
+            Player player,
+            Level level,
+            Map<Item, Integer> required,
+            BulkBlockPlacer placer,
+            String extractionSource,
+            ItemStack wirelessTerminal,
+            List<ItemStack> itemOverflow
+    ) {
+        boolean isCreative = player.isCreative();
         BlockPos pos = component.getPosition();
         BlockState oldState = component.getState();
         Block oldBlock = oldState.getBlock();
 
+        if (level.getBlockState(pos) != oldState) {
+            return new UpgradeResult(false, "Block at " + pos.toShortString() + " changed since it was scanned");
+        }
+
         Item oldItem = oldBlock.asItem();
         ItemStack oldStack = null;
         if (!isCreative && oldItem != null && oldItem != net.minecraft.world.item.Items.AIR) {
@@ -123,14 +127,6 @@ public class ComponentUpgrader {
         Block newBlock = Block.byItem(upgradeItem);
 
         if (newBlock == null || newBlock == net.minecraft.world.level.block.Blocks.AIR) {
-            if (consumeMaterials && oldStack != null) {
-                for (var entry : required.entrySet()) {
-                    ItemStack refund = new ItemStack(entry.getKey(), entry.getValue());
-                    if (!player.getInventory().add(refund)) {
-                        player.drop(refund, false);
-                    }
-                }
-            }
             return new UpgradeResult(false, "Invalid upgrade block");
         }
 
@@ -142,29 +138,14 @@ public class ComponentUpgrader {
             GTCEUTerminalMod.LOGGER.warn("Could not copy properties: {}", e.getMessage());
         }
 
-        boolean placed = level.setBlock(pos, newState, 11);
+        placer.addControllersOf(pos);
 
-        if (!placed) {
-            if (consumeMaterials) {
-                for (var entry : required.entrySet()) {
-                    ItemStack refund = new ItemStack(entry.getKey(), entry.getValue());
-                    if (!player.getInventory().add(refund)) {
-                        player.drop(refund, false);
-                    }
-                }
-            }
-            return new UpgradeResult(false, "Failed to place upgraded block");
+        // Contents and covers move across instead of dropping; the old part stays if its fluids can't
+        String failure = MachineStateTransfer.replace(level, pos, newState, placer, player, wirelessTerminal, itemOverflow);
+        if (failure != null) {
+            return new UpgradeResult(false, failure);
         }
 
-        level.sendBlockUpdated(pos, oldState, newState, 3);
-        level.blockUpdated(pos, newBlock);
-
-        updateNeighborBlocks(level, pos, newBlock);
-
-        level.sendBlockUpdated(pos, oldState, newState, 11);
-
-        level.getChunkAt(pos).setUnsaved(true);
-
         if (oldStack != null) {
             if (!player.getInventory().add(oldStack)) {
                 player.drop(oldStack, false);
@@ -182,6 +163,15 @@ public class ComponentUpgrader {
                 com.gregtechceu.gtceu.api.GTValues.VN[targetTier] + extractionSource);
     }
 
+    private static void refund(Player player, Map<Item, Integer> items) {
+        for (var entry : items.entrySet()) {
+            ItemStack refund = new ItemStack(entry.getKey(), entry.getValue());
+            if (!player.getInventory().add(refund)) {
+                player.drop(refund, false);
+            }
+        }
+    }
+
 
     // Backward compatibility - upgrade without wireless terminal
     public static UpgradeResult upgradeComponent(
@@ -201,22 +191,67 @@ public class ComponentUpgrader {
             Player player,
             Level level,
             ItemStack wirelessTerminal
+    ) {
+        return upgradeMultipleComponents(components, targetTier, player, level, wirelessTerminal, null);
+    }
+
+    /**
+     * Bulk upgrade as a single structural event
+     * All parts are placed with neighbour updates suppressed, then neighbours are updated once per
+     * chunk section and every affected controller re-checks its pattern once
+     * @param controller the multiblock being upgraded (needed for plain blocks like coils), or null
+     */
+    public static BulkUpgradeResult upgradeMultipleComponents(
+            List<ComponentInfo> components,
+            int targetTier,
+            Player player,
+            Level level,
+            ItemStack wirelessTerminal,
+            @Nullable IMultiController controller
+    ) {
+        List<MultiblockUpgradePlan.Step> steps = new ArrayList<>();
+        for (ComponentInfo component : components) {
+            steps.add(new MultiblockUpgradePlan.Step(component, targetTier));
+        }
+        return upgradeSteps(steps, player, level, wirelessTerminal, controller);
+    }
+
+    /**
+     * Execute a whole-multiblock plan: one material transaction for every part, then one
+     * structural change, same as a group upgrade
+     */
+    public static BulkUpgradeResult upgradePlanned(
+            MultiblockUpgradePlan plan,
+            Player player,
+            Level level,
+            ItemStack wirelessTerminal,
+            @Nullable IMultiController controller
+    ) {
+        return upgradeSteps(plan.getSteps(), player, level, wirelessTerminal, controller);
+    }
+
+    private static BulkUpgradeResult upgradeSteps(
+            List<MultiblockUpgradePlan.Step> steps,
+            Player player,
+            Level level,
+            ItemStack wirelessTerminal,
+            @Nullable IMultiController controller
     ) {
         BulkUpgradeResult result = new BulkUpgradeResult();
 
         Map<Item, Integer> totalRequired = new HashMap<>();
-        boolean upgradingCoils = false;
+        MultiblockUpgradePlan.Step firstCoil = null;
 
-        for (ComponentInfo component : components) {
-            if (!ComponentUpgradeHelper.canUpgrade(component, targetTier)) {
+        for (MultiblockUpgradePlan.Step step : steps) {
+            if (!ComponentUpgradeHelper.canUpgrade(step.component(), step.targetTier())) {
                 continue;
             }
 
-            if (component.getType() == ComponentType.COIL) {
-                upgradingCoils = true;
+            if (firstCoil == null && step.component().getType() == ComponentType.COIL) {
+                firstCoil = step;
             }
 
-            Map<Item, Integer> required = ComponentUpgradeHelper.getUpgradeItems(component, targetTier);
+            Map<Item, Integer> required = ComponentUpgradeHelper.getUpgradeItems(step.component(), step.targetTier());
             required.forEach((item, count) ->
                     totalRequired.merge(item, count, Integer::sum)
             );
@@ -224,102 +259,81 @@ public class ComponentUpgrader {
 
         String extractionSource = "";
 
-        // Try ME Network first if wireless terminal is provided
-        if (wirelessTerminal != null && !wirelessTerminal.isEmpty()) {
-            MENetworkItemExtractor.ExtractResult meResult =
-                    MENetworkItemExtractor.tryExtractFromMEOrInventory(
-                            wirelessTerminal, level, player, totalRequired
-                    );
-
-            if (meResult.success) {
-                if (meResult.source == MENetworkItemExtractor.ExtractionSource.ME_NETWORK) {
-                    extractionSource = " §a(ME Network)";
-                } else if (meResult.source == MENetworkItemExtractor.ExtractionSource.PLAYER_INVENTORY) {
-                    extractionSource = " §7(Inventory)";
-                }
-            } else {
-                // Fallback to traditional method
-                List<MaterialAvailability> materials = MaterialCalculator.checkMaterialsAvailability(
-                        totalRequired, player, level
-                );
-
-                if (!MaterialCalculator.hasEnoughMaterials(materials)) {
-                    Map<Item, Integer> missing = MaterialCalculator.getMissingMaterials(materials);
-                    result.success = false;
-                    result.message = "Missing materials: " + formatMissing(missing);
-                    return result;
-                }
+        if (player.isCreative()) {
+            // Creative players don't pay for upgrades
+        } else {
+            // One transaction over ME Network, inventory, backpacks and nearby storage
+            MaterialReservation reservation = MaterialCalculator.reserveMaterials(totalRequired, player, level, wirelessTerminal);
 
-                boolean extracted = MaterialCalculator.extractMaterials(
-                        materials, player, level, true, true
-                );
+            if (!reservation.isComplete()) {
+                result.success = false;
 
-                if (!extracted) {
-                    result.success = false;
-                    result.message = "Failed to extract materials";
+                // The plan can take minutes: only the dimension and positions are kept, the rest is re-read on resume
+                ResourceKey<Level> dimension = level.dimension();
+                BlockPos controllerPos = controller != null ? controller.self().getPos() : null;
+                if (requestAutoCraft(wirelessTerminal, player, reservation.getMissing(),
+                        p -> resumeSteps(steps, p, dimension, controllerPos))) {
+                    result.message = "Crafting missing materials in ME Network, upgrade will resume when done";
                     return result;
                 }
-                extractionSource = " §7(Inventory)";
-            }
-        } else {
-            // No wireless terminal, use traditional method
-            List<MaterialAvailability> materials = MaterialCalculator.checkMaterialsAvailability(
-                    totalRequired, player, level
-            );
 
-            if (!MaterialCalculator.hasEnoughMaterials(materials)) {
-                Map<Item, Integer> missing = MaterialCalculator.getMissingMaterials(materials);
-                result.success = false;
-                result.message = "Missing materials: " + formatMissing(missing);
+                result.message = "Missing materials: " + formatMissing(reservation.getMissing());
                 return result;
             }
 
-            boolean extracted = MaterialCalculator.extractMaterials(
-                    materials, player, level, true, true
-            );
-
-            if (!extracted) {
+            if (!reservation.commit()) {
                 result.success = false;
                 result.message = "Failed to extract materials";
                 return result;
             }
-            extractionSource = " §7(Inventory)";
+            extractionSource = describeSource(reservation);
         }
 
-        for (ComponentInfo component : components) {
-            if (!ComponentUpgradeHelper.canUpgrade(component, targetTier)) {
+        // Place everything first, then one round of neighbour updates and one pattern check
+        BulkBlockPlacer placer = new BulkBlockPlacer(level);
+        placer.addController(controller);
+        List<ItemStack> itemOverflow = new ArrayList<>();
+        int coilsUpgraded = 0;
+
+        for (MultiblockUpgradePlan.Step step : steps) {
+            ComponentInfo component = step.component();
+            if (!ComponentUpgradeHelper.canUpgrade(component, step.targetTier())) {
                 result.skipped++;
                 continue;
             }
 
-            UpgradeResult componentResult = upgradeComponent(
-                    component, targetTier, player, level, false, ItemStack.EMPTY
-            );
+            Map<Item, Integer> required = ComponentUpgradeHelper.getUpgradeItems(component, step.targetTier());
+            UpgradeResult componentResult = required.isEmpty()
+                    ? new UpgradeResult(false, "No upgrade item found for this component")
+                    : placeUpgrade(component, step.targetTier(), player, level, required, placer, "", wirelessTerminal, itemOverflow);
 
             if (componentResult.success) {
                 result.successful++;
+                if (component.getType() == ComponentType.COIL) {
+                    coilsUpgraded++;
+                }
             } else {
                 result.failed++;
                 result.errors.add(componentResult.message);
+                if (!player.isCreative()) {
+                    refund(player, required);
+                }
             }
         }
 
+        placer.finish();
+        MachineStateTransfer.flushOverflow(itemOverflow, player, level, wirelessTerminal);
+
         result.success = result.successful > 0;
         result.message = String.format("Upgraded %d/%d components%s",
-                result.successful, components.size(), extractionSource);
+                result.successful, steps.size(), extractionSource);
 
-        if (upgradingCoils && result.successful > 0) {
+        if (firstCoil != null && coilsUpgraded > 0) {
             String coilName = "Unknown Coil";
             try {
-                ComponentInfo firstCoil = components.stream()
-                        .filter(c -> c.getType() == ComponentType.COIL)
-                        .findFirst()
-                        .orElse(null);
-                if (firstCoil != null) {
-                    String fullName = ComponentUpgradeHelper.getUpgradeName(firstCoil, targetTier);
-                    if (fullName != null && !fullName.isEmpty()) {
-                        coilName = fullName;
-                    }
+                String fullName = ComponentUpgradeHelper.getUpgradeName(firstCoil.component(), firstCoil.targetTier());
+                if (fullName != null && !fullName.isEmpty()) {
+                    coilName = fullName;
                 }
             } catch (Exception e) {
                 GTCEUTerminalMod.LOGGER.error("Error getting coil name for upgrade message", e);
@@ -327,7 +341,7 @@ public class ComponentUpgrader {
 
             player.displayClientMessage(
                     net.minecraft.network.chat.Component.literal(
-                            String.format("§e⚠ Upgraded %d coils to §6%s%s", result.successful, coilName, extractionSource)
+                            String.format("§e⚠ Upgraded %d coils to §6%s%s", coilsUpgraded, coilName, extractionSource)
                     ).withStyle(net.minecraft.ChatFormatting.YELLOW),
                     false
             );
@@ -349,7 +363,7 @@ public class ComponentUpgrader {
             );
 
             GTCEUTerminalMod.LOGGER.info("Player {} upgraded {} coils to {} (tier {}){}",
-                    player.getName().getString(), result.successful, coilName, targetTier,
+                    player.getName().getString(), coilsUpgraded, coilName, firstCoil.targetTier(),
                     extractionSource.replace("§a", "").replace("§7", ""));
         }
 
@@ -387,38 +401,76 @@ public class ComponentUpgrader {
         return newState;
     }
 
-    private static void updateNeighborBlocks(Level level, BlockPos pos, Block newBlock) {
-        BlockPos[] neighbors = {
-                pos,
-                pos.above(),
-                pos.below(),
-                pos.north(),
-                pos.south(),
-                pos.east(),
-                pos.west()
-        };
+    private static boolean requestAutoCraft(ItemStack wirelessTerminal, Player player, Map<Item, Long> missing,
+                                            Consumer<ServerPlayer> resume) {
+        if (!(player instanceof ServerPlayer serverPlayer) || !AE2Integration.isAE2Loaded()) {
+            return false;
+        }
+        return MECraftingPlanner.planForTerminal(wirelessTerminal, serverPlayer, missing, resume);
+    }
 
-        for (BlockPos neighborPos : neighbors) {
-            BlockState neighborState = level.getBlockState(neighborPos);
+    /**
+     * Continue an upgrade once autocrafting finished
+     * The multiblock is rescanned like a fresh upgrade request; if the player changed dimension or
+     * any planned part is no longer what was scanned, the upgrade is dropped instead of placing blind
+     */
+    private static void resumeSteps(
+            List<MultiblockUpgradePlan.Step> steps,
+            ServerPlayer player,
+            ResourceKey<Level> dimension,
+            @Nullable BlockPos controllerPos
+    ) {
+        ServerLevel level = player.server.getLevel(dimension);
+        if (level == null || player.level() != level) {
+            sendResumeResult(player, false, "Upgrade cancelled: you are no longer in the dimension it was started in");
+            return;
+        }
 
-            level.neighborChanged(neighborPos, newBlock, pos);
+        IMultiController controller = null;
+        Map<BlockPos, ComponentInfo> scanned = null;
+        if (controllerPos != null) {
+            MultiblockInfo multiblock = MultiblockScanner.scanMultiblockAt(player, level, controllerPos);
+            if (multiblock == null) {
+                sendResumeResult(player, false, "Upgrade cancelled: the multiblock is no longer formed");
+                return;
+            }
+            controller = multiblock.getController();
+            scanned = new HashMap<>();
+            for (ComponentInfo component : multiblock.getComponents()) {
+                scanned.put(component.getPosition(), component);
+            }
+        }
 
-            level.sendBlockUpdated(neighborPos, neighborState, neighborState, 3);
+        List<MultiblockUpgradePlan.Step> current = new ArrayList<>();
+        for (MultiblockUpgradePlan.Step step : steps) {
+            BlockPos pos = step.component().getPosition();
+            ComponentInfo component = scanned != null ? scanned.get(pos) : step.component();
+            if (component == null || component.getState() != step.component().getState()
+                    || level.getBlockState(pos) != component.getState()) {
+                sendResumeResult(player, false, "Upgrade cancelled: the structure changed while crafting");
+                return;
+            }
+            current.add(new MultiblockUpgradePlan.Step(component, step.targetTier()));
         }
 
-        if (!level.isClientSide) {
-            var chunk = level.getChunkAt(pos);
-            chunk.setUnsaved(true);
+        BulkUpgradeResult result = upgradeSteps(current, player, level, MaterialCalculator.findWirelessTerminal(player), controller);
+        sendResumeResult(player, result.success, result.message);
+    }
 
-            level.getChunkSource().getLightEngine().checkBlock(pos);
-        }
+    private static void sendResumeResult(ServerPlayer player, boolean success, String message) {
+        player.displayClientMessage(
+                net.minecraft.network.chat.Component.literal((success ? "§a" : "§c") + message),
+                false
+        );
+    }
 
-        GTCEUTerminalMod.LOGGER.info("Updated CTM for block at {} and 6 neighbors", pos);
+    private static String describeSource(MaterialReservation reservation) {
+        return reservation.usesSource(MaterialSource.Type.ME_NETWORK) ? " §a(ME Network)" : " §7(Inventory)";
     }
 
-    private static String formatMissing(Map<Item, Integer> missing) {
+    private static String formatMissing(Map<Item, ? extends Number> missing) {
         StringBuilder sb = new StringBuilder();
-        for (Map.Entry<Item, Integer> entry : missing.entrySet()) {
+        for (Map.Entry<Item, ? extends Number> entry : missing.entrySet()) {
             if (sb.length() > 0) sb.append(", ");
             sb.append(entry.getKey().getDescription().getString())
                     .append(" x")
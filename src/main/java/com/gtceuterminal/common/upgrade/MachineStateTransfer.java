@@ -0,0 +1,257 @@
+package com.gtceuterminal.common.upgrade;
+
+import com.gregtechceu.gtceu.api.cover.CoverBehavior;
+import com.gregtechceu.gtceu.api.cover.CoverDefinition;
+import com.gregtechceu.gtceu.api.machine.MetaMachine;
+import com.gregtechceu.gtceu.api.machine.feature.multiblock.IDistinctPart;
+import com.gregtechceu.gtceu.api.machine.trait.MachineTrait;
+import com.gregtechceu.gtceu.api.machine.trait.NotifiableFluidTank;
+import com.gregtechceu.gtceu.api.machine.trait.NotifiableItemStackHandler;
+
+import com.lowdragmc.lowdraglib.syncdata.accessor.IManagedAccessor;
+
+import com.gtceuterminal.GTCEUTerminalMod;
+import com.gtceuterminal.common.ae2.AE2Integration;
+import com.gtceuterminal.common.ae2.MENetworkInserter;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.fluids.FluidStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carries a GTCEu part's state across a tier upgrade
+ * capture() takes inventories, tanks, covers (with their config) and distinct mode out of the old
+ * machine (so nothing is dropped when its block is replaced) and restore() puts them into the new one. Items the new
+ * machine can't hold end up in the overflow lists, see {@link #flushOverflow}. Fluids have nowhere
+ * else to go, so {@link #replace} puts the old part back rather than lose them
+ */
+public class MachineStateTransfer {
+
+    private final Class<?> machineClass;
+    private final List<List<ItemStack>> inventories = new ArrayList<>();
+    private final List<List<FluidStack>> tanks = new ArrayList<>();
+    private final Map<Direction, CapturedCover> covers = new EnumMap<>(Direction.class);
+    @Nullable
+    private Boolean distinct;
+
+    private MachineStateTransfer(Class<?> machineClass) {
+        this.machineClass = machineClass;
+    }
+
+    /**
+     * Swap the block at pos for newState through the placer, moving the machine state across
+     * Fluids the new block can't hold must fit into the ME Network; if they don't, the old block
+     * and its full state are put back. Items that don't fit are added to itemOverflow
+     * @return null on success, otherwise why the block was left as it was
+     */
+    @Nullable
+    public static String replace(Level level, BlockPos pos, BlockState newState, BulkBlockPlacer placer, Player player,
+                                 @Nullable ItemStack terminal, List<ItemStack> itemOverflow) {
+        BlockState oldState = level.getBlockState(pos);
+        MachineStateTransfer state = capture(level, pos);
+
+        if (!placer.place(pos, newState)) {
+            if (state != null) {
+                state.restoreOrLog(level, pos, player, itemOverflow);
+            }
+            return "Failed to place upgraded block";
+        }
+        if (state == null) {
+            return null;
+        }
+
+        List<ItemStack> items = new ArrayList<>();
+        List<FluidStack> fluids = new ArrayList<>();
+        state.restore(level, pos, player, items, fluids);
+        if (fluids.isEmpty() || storeFluids(fluids, player, level, terminal)) {
+            itemOverflow.addAll(items);
+            return null;
+        }
+
+        // No room for the fluids anywhere: empty the new block again (everything in it is also in
+        // the captured state) and put the old part back with what it held
+        capture(level, pos);
+        placer.place(pos, oldState);
+        state.restoreOrLog(level, pos, player, itemOverflow);
+        return "New part can't hold its fluids and no ME Network could take them";
+    }
+
+    // Back into the same kind of machine everything fits; anything else would be a bug worth seeing
+    private void restoreOrLog(Level level, BlockPos pos, Player player, List<ItemStack> itemOverflow) {
+        List<FluidStack> fluids = new ArrayList<>();
+        restore(level, pos, player, itemOverflow, fluids);
+        if (!fluids.isEmpty()) {
+            GTCEUTerminalMod.LOGGER.error("Could not put {} fluid stacks back into the part at {}", fluids.size(), pos);
+        }
+    }
+
+    // All-or-nothing: the fluids only leave the caller's hands if the network takes every drop
+    private static boolean storeFluids(List<FluidStack> fluids, Player player, Level level, @Nullable ItemStack terminal) {
+        return AE2Integration.isAE2Loaded() && MENetworkInserter.insertFluids(terminal, level, player, fluids);
+    }
+
+    // Take the state out of the machine at pos, or null if there is no GTCEu machine there
+    @Nullable
+    public static MachineStateTransfer capture(Level level, BlockPos pos) {
+        MetaMachine machine = MetaMachine.getMachine(level, pos);
+        if (machine == null) {
+            return null;
+        }
+
+        MachineStateTransfer state = new MachineStateTransfer(machine.getClass());
+
+        for (MachineTrait trait : machine.getTraits()) {
+            if (trait instanceof NotifiableItemStackHandler handler) {
+                List<ItemStack> stacks = new ArrayList<>(handler.getSlots());
+                for (int slot = 0; slot < handler.getSlots(); slot++) {
+                    stacks.add(handler.getStackInSlot(slot).copy());
+                    handler.setStackInSlot(slot, ItemStack.EMPTY);
+                }
+                state.inventories.add(stacks);
+            } else if (trait instanceof NotifiableFluidTank tank) {
+                List<FluidStack> fluids = new ArrayList<>();
+                for (var storage : tank.getStorages()) {
+                    fluids.add(storage.getFluid().copy());
+                    storage.setFluid(FluidStack.EMPTY);
+                }
+                state.tanks.add(fluids);
+            }
+        }
+
+        for (Direction side : Direction.values()) {
+            CoverBehavior cover = machine.getCoverContainer().getCoverAtSide(side);
+            if (cover != null) {
+                // Its persisted config goes onto the re-placed cover; item and drops only if that fails
+                CompoundTag data = IManagedAccessor.readManagedFields(cover, new CompoundTag());
+                List<ItemStack> drops = new ArrayList<>(cover.getAdditionalDrops());
+                state.covers.put(side, new CapturedCover(cover.coverDefinition, cover.getAttachItem().copy(), data, drops));
+                cover.onRemoved();
+                machine.getCoverContainer().setCoverAtSide(null, side);
+            }
+        }
+
+        if (machine instanceof IDistinctPart distinctPart) {
+            state.distinct = distinctPart.isDistinct();
+        }
+
+        return state;
+    }
+
+    /**
+     * Move the captured state into the machine now at pos
+     * Inventories and tanks are matched by slot and tank index when the new machine is the same kind
+     * of part; otherwise all contents overflow. Covers get their captured config back
+     */
+    public void restore(Level level, BlockPos pos, Player player, List<ItemStack> itemOverflow,
+                        List<FluidStack> fluidOverflow) {
+        MetaMachine machine = MetaMachine.getMachine(level, pos);
+        boolean sameKind = machine != null && machine.getClass() == machineClass;
+
+        List<NotifiableItemStackHandler> newInventories = new ArrayList<>();
+        List<NotifiableFluidTank> newTanks = new ArrayList<>();
+        if (sameKind) {
+            for (MachineTrait trait : machine.getTraits()) {
+                if (trait instanceof NotifiableItemStackHandler handler) {
+                    newInventories.add(handler);
+                } else if (trait instanceof NotifiableFluidTank tank) {
+                    newTanks.add(tank);
+                }
+            }
+        }
+
+        for (int i = 0; i < inventories.size(); i++) {
+            NotifiableItemStackHandler target = i < newInventories.size() ? newInventories.get(i) : null;
+            List<ItemStack> stacks = inventories.get(i);
+            for (int slot = 0; slot < stacks.size(); slot++) {
+                ItemStack stack = stacks.get(slot);
+                if (stack.isEmpty()) continue;
+                // Set through the storage like capture() did: output-only handlers refuse insertItem
+                if (target != null && slot < target.getSlots() && target.getStackInSlot(slot).isEmpty()) {
+                    int fits = Math.min(stack.getCount(), target.getSlotLimit(slot));
+                    target.setStackInSlot(slot, stack.copyWithCount(fits));
+                    stack = stack.copyWithCount(stack.getCount() - fits);
+                }
+                if (!stack.isEmpty()) {
+                    itemOverflow.add(stack.copy());
+                }
+            }
+        }
+
+        for (int i = 0; i < tanks.size(); i++) {
+            NotifiableFluidTank target = i < newTanks.size() ? newTanks.get(i) : null;
+            List<FluidStack> fluids = tanks.get(i);
+            for (int j = 0; j < fluids.size(); j++) {
+                FluidStack fluid = fluids.get(j);
+                if (fluid.isEmpty()) continue;
+
+                int stored = 0;
+                if (target != null && j < target.getStorages().length) {
+                    var storage = target.getStorages()[j];
+                    FluidStack current = storage.getFluid();
+                    if (current.isEmpty() || current.isFluidEqual(fluid)) {
+                        stored = Math.min(fluid.getAmount(), storage.getCapacity() - current.getAmount());
+                        storage.setFluid(new FluidStack(fluid, current.getAmount() + stored));
+                    }
+                }
+                if (stored < fluid.getAmount()) {
+                    fluidOverflow.add(new FluidStack(fluid, fluid.getAmount() - stored));
+                }
+            }
+        }
+
+        for (Map.Entry<Direction, CapturedCover> entry : covers.entrySet()) {
+            CapturedCover cover = entry.getValue();
+            boolean placed = machine != null && player instanceof ServerPlayer serverPlayer
+                    && machine.getCoverContainer().placeCoverOnSide(entry.getKey(), cover.item().copy(), cover.definition(), serverPlayer);
+            CoverBehavior placedCover = placed ? machine.getCoverContainer().getCoverAtSide(entry.getKey()) : null;
+            if (placedCover != null) {
+                IManagedAccessor.writePersistedFields(cover.data(), placedCover.getSyncStorage().getPersistedFields());
+                placedCover.getSyncStorage().markAllDirty();
+            } else {
+                if (!cover.item().isEmpty()) {
+                    itemOverflow.add(cover.item().copy());
+                }
+                cover.drops().forEach(drop -> itemOverflow.add(drop.copy()));
+            }
+        }
+
+        if (sameKind && distinct != null && machine instanceof IDistinctPart distinctPart) {
+            distinctPart.setDistinct(distinct);
+        }
+    }
+
+    /**
+     * Send item overflow to the ME Network in one go (linked grid first, then a nearby one),
+     * then give whatever is left to the player
+     */
+    public static void flushOverflow(List<ItemStack> items, Player player, Level level, @Nullable ItemStack terminal) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        List<ItemStack> leftover = items;
+        if (AE2Integration.isAE2Loaded()) {
+            leftover = MENetworkInserter.insertIntoNetwork(terminal, level, player, items);
+        }
+
+        for (ItemStack stack : leftover) {
+            if (!player.getInventory().add(stack)) {
+                player.drop(stack, false);
+            }
+        }
+    }
+
+    private record CapturedCover(CoverDefinition definition, ItemStack item, CompoundTag data, List<ItemStack> drops) {}
+}
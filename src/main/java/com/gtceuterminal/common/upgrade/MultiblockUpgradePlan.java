@@ -0,0 +1,209 @@
+package com.gtceuterminal.common.upgrade;
+
+import com.gregtechceu.gtceu.api.GTValues;
+
+import com.gtceuterminal.common.config.CoilConfig;
+import com.gtceuterminal.common.material.ComponentUpgradeHelper;
+import com.gtceuterminal.common.multiblock.ComponentInfo;
+import com.gtceuterminal.common.multiblock.ComponentType;
+
+import net.minecraft.world.item.Item;
+
+import java.util.*;
+
+/**
+ * Whole-multiblock upgrade plan
+ * For a target voltage tier it picks the tier every upgradeable part should move to, merges the
+ * upgrade items into one material list and keeps per-type before/after tiers for the preview.
+ * The client builds it for the preview and the server builds it again from the live structure
+ */
+public class MultiblockUpgradePlan {
+
+    // Coils follow the usual EBF progression: HSS-G (index 4) at IV, Naquadah at LuV...
+    private static final int COIL_TIER_OFFSET = 1;
+
+    private final int targetTier;
+    private final List<Step> steps = new ArrayList<>();
+    private final Map<Item, Integer> requiredMaterials = new LinkedHashMap<>();
+    private final Map<ComponentType, TypeChange> changes = new EnumMap<>(ComponentType.class);
+
+    private long energyVoltageBefore = -1;
+    private long energyVoltageAfter = -1;
+    private int coilTemperatureBefore = -1;
+    private int coilTemperatureAfter = -1;
+
+    private MultiblockUpgradePlan(int targetTier) {
+        this.targetTier = targetTier;
+    }
+
+    /**
+     * Plan the upgrades needed to bring every part up to targetTier
+     * Parts are never downgraded, and a part with no config entry at the target gets the highest tier below it
+     */
+    public static MultiblockUpgradePlan create(List<ComponentInfo> components, int targetTier) {
+        MultiblockUpgradePlan plan = new MultiblockUpgradePlan(targetTier);
+        Map<ComponentType, List<Integer>> tiersByType = new EnumMap<>(ComponentType.class);
+
+        int lowestEnergyBefore = Integer.MAX_VALUE;
+        int lowestEnergyAfter = Integer.MAX_VALUE;
+        int lowestCoilBefore = Integer.MAX_VALUE;
+        int lowestCoilAfter = Integer.MAX_VALUE;
+
+        for (ComponentInfo component : components) {
+            ComponentType type = component.getType();
+            if (!type.isUpgradeable()) continue;
+
+            List<Integer> available = tiersByType.computeIfAbsent(type, ComponentUpgradeHelper::getAvailableTiers);
+            int resolved = resolveTier(component, targetTier, available);
+            int after = resolved >= 0 ? resolved : component.getTier();
+
+            if (resolved >= 0) {
+                Map<Item, Integer> required = ComponentUpgradeHelper.getUpgradeItems(component, resolved);
+                if (required.isEmpty()) {
+                    after = component.getTier();
+                } else {
+                    plan.steps.add(new Step(component, resolved));
+                    required.forEach((item, count) -> plan.requiredMaterials.merge(item, count, Integer::sum));
+                }
+            }
+
+            plan.changes.computeIfAbsent(type, TypeChange::new).add(component.getTier(), after);
+
+            if (type == ComponentType.ENERGY_HATCH) {
+                lowestEnergyBefore = Math.min(lowestEnergyBefore, component.getTier());
+                lowestEnergyAfter = Math.min(lowestEnergyAfter, after);
+            } else if (type == ComponentType.COIL) {
+                lowestCoilBefore = Math.min(lowestCoilBefore, component.getTier());
+                lowestCoilAfter = Math.min(lowestCoilAfter, after);
+            }
+        }
+
+        // The lowest energy hatch caps the recipe voltage, the coldest coil caps the temperature
+        if (lowestEnergyBefore != Integer.MAX_VALUE) {
+            plan.energyVoltageBefore = voltage(lowestEnergyBefore);
+            plan.energyVoltageAfter = voltage(lowestEnergyAfter);
+        }
+        if (lowestCoilBefore != Integer.MAX_VALUE) {
+            plan.coilTemperatureBefore = coilTemperature(lowestCoilBefore);
+            plan.coilTemperatureAfter = coilTemperature(lowestCoilAfter);
+        }
+
+        return plan;
+    }
+
+    // Highest configured tier above the current one that doesn't go past the target, or -1
+    private static int resolveTier(ComponentInfo component, int targetTier, List<Integer> available) {
+        int wanted = component.getType() == ComponentType.COIL ? targetTier - COIL_TIER_OFFSET : targetTier;
+
+        int best = -1;
+        for (int tier : available) {
+            if (tier > component.getTier() && tier <= wanted && tier > best) {
+                best = tier;
+            }
+        }
+        if (best >= 0 && !ComponentUpgradeHelper.canUpgrade(component, best)) {
+            return -1;
+        }
+        return best;
+    }
+
+    private static long voltage(int tier) {
+        return tier >= 0 && tier < GTValues.V.length ? GTValues.V[tier] : -1;
+    }
+
+    private static int coilTemperature(int tier) {
+        CoilConfig.CoilEntry entry = CoilConfig.getCoilByTier(tier);
+        return entry != null ? entry.temperature : -1;
+    }
+
+    public static String getTierName(ComponentType type, int tier) {
+        if (type == ComponentType.COIL) {
+            String name = CoilConfig.getCoilDisplayName(tier);
+            return name != null && !name.isEmpty() ? name.replace(" Coil", "").trim() : "Unknown Coil";
+        }
+        if (tier < 0 || tier >= GTValues.VN.length) {
+            return "Unknown";
+        }
+        return GTValues.VN[tier].toUpperCase(Locale.ROOT);
+    }
+
+    public int getTargetTier() {
+        return targetTier;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    public Map<Item, Integer> getRequiredMaterials() {
+        return requiredMaterials;
+    }
+
+    public Collection<TypeChange> getChanges() {
+        return changes.values();
+    }
+
+    // Max voltage of the weakest energy hatch, or -1 if the multiblock has none
+    public long getEnergyVoltageBefore() {
+        return energyVoltageBefore;
+    }
+
+    public long getEnergyVoltageAfter() {
+        return energyVoltageAfter;
+    }
+
+    // Temperature of the coldest coil, or -1 if the multiblock has no coils
+    public int getCoilTemperatureBefore() {
+        return coilTemperatureBefore;
+    }
+
+    public int getCoilTemperatureAfter() {
+        return coilTemperatureAfter;
+    }
+
+    public record Step(ComponentInfo component, int targetTier) {}
+
+    // Before/after summary for one component type
+    public static class TypeChange {
+        private final ComponentType type;
+        private int count;
+        private int upgraded;
+        private int lowestBefore = Integer.MAX_VALUE;
+        private int lowestAfter = Integer.MAX_VALUE;
+
+        TypeChange(ComponentType type) {
+            this.type = type;
+        }
+
+        void add(int before, int after) {
+            count++;
+            if (after != before) upgraded++;
+            lowestBefore = Math.min(lowestBefore, before);
+            lowestAfter = Math.min(lowestAfter, after);
+        }
+
+        public ComponentType getType() {
+            return type;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getUpgraded() {
+            return upgraded;
+        }
+
+        public int getLowestBefore() {
+            return lowestBefore;
+        }
+
+        public int getLowestAfter() {
+            return lowestAfter;
+        }
+    }
+}